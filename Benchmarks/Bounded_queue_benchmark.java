@@ -0,0 +1,71 @@
+package Benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Java_Linked_list.Lock_free_queue;
+
+// Bounded queues under producer/consumer load. Producers use the non-blocking add, so a full
+// queue rejects the item (that is the backpressure signal) instead of parking the thread,
+// which would hang JMH at the end of an iteration. Scale with one -tg N,N per run
+// (queue_sweep.sh runs the usual sizes).
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Bounded_queue_benchmark {
+
+    @Param({"1024"})
+    public int capacity;
+
+    static final Integer ITEM = 42;
+
+    Lock_free_queue.Bounded<Integer> lockFree;
+    ArrayBlockingQueue<Integer> blocking;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        lockFree = new Lock_free_queue.Bounded<>(capacity);
+        blocking = new ArrayBlockingQueue<>(capacity);
+    }
+
+    // Start every iteration with an empty queue
+    @TearDown(Level.Iteration)
+    public void drain() {
+        while (lockFree.removeFirst() != null) {
+        }
+        blocking.clear();
+    }
+
+    @Benchmark
+    @Group("lockFreeBounded")
+    @GroupThreads(1)
+    public void lockFreePut() {
+        lockFree.addLast(ITEM);
+    }
+
+    @Benchmark
+    @Group("lockFreeBounded")
+    @GroupThreads(1)
+    public Integer lockFreeTake() {
+        return lockFree.removeFirst();
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public boolean blockingPut() {
+        return blocking.offer(ITEM);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public Integer blockingTake() {
+        return blocking.poll();
+    }
+}
@@ -0,0 +1,80 @@
+package Benchmarks;
+
+import java.util.Random;
+
+public class Input_generator {
+
+    public enum Distribution {
+        RANDOM,     // Uniform over the whole int range
+        SORTED,     // 0, 1, 2, ...
+        REVERSED,   // n, n-1, ..., 1
+        FEW_UNIQUE, // Only 16 distinct keys
+        SAWTOOTH,   // Ascending runs of 1024 that restart from 0
+        ZIPF        // Heavily skewed, a few keys dominate
+    }
+
+    static final int FEW_UNIQUE_KEYS = 16;
+    static final int SAWTOOTH_PERIOD = 1024;
+    static final double ZIPF_EXPONENT = 1.1;
+
+    public static int[] generate(Distribution dist, int n, long seed) {
+        Random rnd = new Random(seed);
+        int[] arr = new int[n];
+        switch (dist) {
+            case RANDOM:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = rnd.nextInt();
+                }
+                break;
+            case SORTED:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = i;
+                }
+                break;
+            case REVERSED:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = n - i;
+                }
+                break;
+            case FEW_UNIQUE:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = rnd.nextInt(FEW_UNIQUE_KEYS);
+                }
+                break;
+            case SAWTOOTH:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = i % SAWTOOTH_PERIOD;
+                }
+                break;
+            case ZIPF:
+                fillZipf(arr, rnd);
+                break;
+        }
+        return arr;
+    }
+
+    // Keys 1..n drawn with P(k) proportional to 1/k^s, using the continuous inverse CDF
+    // approximation so generating 1e8 values does not need an n-sized table
+    static void fillZipf(int[] arr, Random rnd) {
+        int n = Math.max(arr.length, 2);
+        double s = ZIPF_EXPONENT;
+        double hn = (Math.pow(n, 1 - s) - 1) / (1 - s);
+        for (int i = 0; i < arr.length; i++) {
+            double u = rnd.nextDouble() * hn;
+            double k = Math.pow(u * (1 - s) + 1, 1 / (1 - s));
+            arr[i] = (int) Math.min(n, Math.max(1, k));
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        for (Distribution d : Distribution.values()) {
+            int[] arr = generate(d, 12, 1);
+            System.out.print(d + ": ");
+            for (int num : arr) {
+                System.out.print(num + " ");
+            }
+            System.out.println();
+        }
+    }
+}
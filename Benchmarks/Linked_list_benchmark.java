@@ -0,0 +1,131 @@
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Java_Linked_list.Unrolled_linked_list;
+
+// Unrolled_linked_list vs one-object-per-node (the Linklist_creation model) vs ArrayList<Integer>.
+// insertRemoveMiddle adds and then removes at size / 2 so the size stays fixed between ops.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class Linked_list_benchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    // Same layout as Linklist_creation (whose state is static and package-private)
+    static class Node_list {
+        static class Node {
+            int data;
+            Node next;
+
+            Node(int data) {
+                this.data = data;
+            }
+        }
+
+        Node head, tail;
+        int size;
+
+        void addLast(int data) {
+            Node newNode = new Node(data);
+            size++;
+            if (head == null) {
+                head = tail = newNode;
+                return;
+            }
+            tail.next = newNode;
+            tail = newNode;
+        }
+
+        void addMid(int data, int index) {
+            Node newNode = new Node(data);
+            size++;
+            Node temp = head;
+            for (int i = 0; i < index - 1; i++) {
+                temp = temp.next;
+            }
+            newNode.next = temp.next;
+            temp.next = newNode;
+        }
+
+        int removeMid(int index) {
+            Node temp = head;
+            for (int i = 0; i < index - 1; i++) {
+                temp = temp.next;
+            }
+            int val = temp.next.data;
+            temp.next = temp.next.next;
+            size--;
+            return val;
+        }
+
+        long sum() {
+            long sum = 0;
+            for (Node temp = head; temp != null; temp = temp.next) {
+                sum += temp.data;
+            }
+            return sum;
+        }
+    }
+
+    Unrolled_linked_list unrolled;
+    Node_list nodes;
+    ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        unrolled = new Unrolled_linked_list();
+        nodes = new Node_list();
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            unrolled.addLast(i);
+            nodes.addLast(i);
+            arrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public long scanUnrolled() {
+        return unrolled.sum();
+    }
+
+    @Benchmark
+    public long scanNodes() {
+        return nodes.sum();
+    }
+
+    @Benchmark
+    public long scanArrayList() {
+        long sum = 0;
+        for (int i = 0, n = arrayList.size(); i < n; i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int insertRemoveMiddleUnrolled() {
+        unrolled.addMid(-1, size / 2);
+        return unrolled.remove(size / 2);
+    }
+
+    @Benchmark
+    public int insertRemoveMiddleNodes() {
+        nodes.addMid(-1, size / 2);
+        return nodes.removeMid(size / 2);
+    }
+
+    @Benchmark
+    public int insertRemoveMiddleArrayList() {
+        arrayList.add(size / 2, -1);
+        return arrayList.remove(size / 2);
+    }
+}
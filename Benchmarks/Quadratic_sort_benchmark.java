@@ -0,0 +1,62 @@
+package Benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Searching_and_sorting.*;
+
+// O(n^2) sorts stop at 1e5, beyond that a single invocation takes minutes.
+// Arrays.sort is included so the crossover point can be read off directly.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Quadratic_sort_benchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "SAWTOOTH", "ZIPF"})
+    public Input_generator.Distribution distribution;
+
+    int[] source;
+    int[] work;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = Input_generator.generate(distribution, size, 42);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] inbuiltSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Bubble_sort.bubbleSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] selectionSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Selection_sort.selectionSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Insertion_sort.insertionSort(work);
+        return work;
+    }
+}
@@ -0,0 +1,132 @@
+package Benchmarks;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import Java_Linked_list.Lock_free_queue;
+
+// Producers and consumers hammering one shared queue. Each op is one addLast or one
+// removeFirst; an empty poll still counts as an op. Producers stop adding once maxBacklog
+// items are waiting (that attempt still counts as an op), so a queue that consumers can't keep
+// up with doesn't grow without bound and turn the run into a GC benchmark.
+// The default is 1 producer + 1 consumer; JMH takes one -tg per run, e.g. -tg 32,32 for 64 threads:
+//   java -jar target/benchmarks.jar Queue_contention_benchmark -tg 32,32
+// queue_sweep.sh runs 1,1 / 4,4 / 16,16 / 32,32 one after another.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Queue_contention_benchmark {
+
+    @Param({"lockFree", "concurrentLinkedQueue", "locked"})
+    public String queue;
+
+    @Param({"1024"})
+    public int maxBacklog;
+
+    // Minimal common view over the queues under test
+    interface Int_queue {
+        void addLast(Integer data);
+
+        Integer removeFirst();
+    }
+
+    // Linklist_creation's addLast / RemoveFrist with one lock around each
+    static class Locked_queue implements Int_queue {
+        static class Node {
+            Integer data;
+            Node next;
+
+            Node(Integer data) {
+                this.data = data;
+            }
+        }
+
+        Node head, tail;
+
+        @Override
+        public synchronized void addLast(Integer data) {
+            Node newNode = new Node(data);
+            if (head == null) {
+                head = tail = newNode;
+                return;
+            }
+            tail.next = newNode;
+            tail = newNode;
+        }
+
+        @Override
+        public synchronized Integer removeFirst() {
+            if (head == null) {
+                return null;
+            }
+            Integer val = head.data;
+            head = head.next;
+            if (head == null) {
+                tail = null;
+            }
+            return val;
+        }
+    }
+
+    static final Integer ITEM = 42;
+
+    Int_queue q;
+
+    // Items added but not yet removed. Every queue pays for the same counter, so it doesn't skew the comparison
+    final AtomicInteger backlog = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        backlog.set(0);
+        switch (queue) {
+            case "lockFree": {
+                Lock_free_queue<Integer> lf = new Lock_free_queue<>();
+                q = new Int_queue() {
+                    public void addLast(Integer data) { lf.addLast(data); }
+                    public Integer removeFirst() { return lf.removeFirst(); }
+                };
+                break;
+            }
+            case "concurrentLinkedQueue": {
+                ConcurrentLinkedQueue<Integer> clq = new ConcurrentLinkedQueue<>();
+                q = new Int_queue() {
+                    public void addLast(Integer data) { clq.offer(data); }
+                    public Integer removeFirst() { return clq.poll(); }
+                };
+                break;
+            }
+            default:
+                q = new Locked_queue();
+        }
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(1)
+    public void produce() {
+        if (backlog.get() >= maxBacklog) {
+            Thread.onSpinWait(); // Let the consumers catch up
+            return;
+        }
+        backlog.incrementAndGet();
+        q.addLast(ITEM);
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(1)
+    public void consume(Blackhole bh) {
+        Integer item = q.removeFirst();
+        if (item != null) {
+            backlog.decrementAndGet();
+        }
+        bh.consume(item);
+    }
+}
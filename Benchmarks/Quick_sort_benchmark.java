@@ -0,0 +1,49 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Searching_and_sorting.*;
+
+// Quick_sort.quickSort pivots on the last element, so SORTED/REVERSED/SAWTOOTH/FEW_UNIQUE input
+// is O(n^2) with one stack frame per element. Like Quadratic_sort_benchmark it stops at 1e5, and
+// the fork gets a large thread stack so the deepest case (1e5 frames) completes instead of
+// overflowing. Intro_sort is the same partition with the fixes, for comparison.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss256m"})
+public class Quick_sort_benchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "SAWTOOTH", "ZIPF"})
+    public Input_generator.Distribution distribution;
+
+    int[] source;
+    int[] work;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = Input_generator.generate(distribution, size, 42);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Quick_sort.quickSort(work, 0, size - 1);
+        return work;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Intro_sort.introSort(work);
+        return work;
+    }
+}
@@ -0,0 +1,27 @@
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Entry point of benchmarks.jar. Always attaches the GC profiler (allocation rate per op)
+// and writes JSON results, so every run leaves a file that can be compared across releases.
+// Any standard JMH flag still works, e.g. a regex to pick benchmarks or -p size=10000.
+public class Run_benchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        Options opts = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse("jmh-result.json"))
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,88 @@
+package Benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Searching_and_sorting.*;
+
+// One lookup per invocation against a sorted table; keys cycle through a pre-drawn batch
+// that hits and misses the table in equal measure.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class Search_benchmark {
+
+    static final int KEYS = 1 << 16;
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "SAWTOOTH", "ZIPF"})
+    public Input_generator.Distribution distribution;
+
+    int[] unsorted;
+    int[] sorted;
+    int[] keys;
+    int[] out;
+    Eytzinger_search eytzinger;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        unsorted = Input_generator.generate(distribution, size, 42);
+        sorted = unsorted.clone();
+        Arrays.sort(sorted);
+        Random rnd = new Random(7);
+        keys = new int[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = (i & 1) == 0 ? unsorted[rnd.nextInt(size)] : rnd.nextInt();
+        }
+        out = new int[KEYS];
+        eytzinger = new Eytzinger_search(sorted);
+    }
+
+    int nextKey() {
+        int key = keys[next];
+        next = (next + 1) & (KEYS - 1);
+        return key;
+    }
+
+    @Benchmark
+    public int linearSearch() {
+        return Linear_search.linear_search(unsorted, nextKey());
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        return Binary_search.binary_search(sorted, nextKey());
+    }
+
+    @Benchmark
+    public int inbuiltBinarySearch() {
+        return Arrays.binarySearch(sorted, nextKey());
+    }
+
+    @Benchmark
+    public int eytzingerSearch() {
+        return eytzinger.indexOf(nextKey());
+    }
+
+    // Whole key batch per op; divide the score by KEYS to compare with single lookups
+    @Benchmark
+    public int[] eytzingerLookupAll() {
+        eytzinger.lookupAll(keys, out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] batchSearchAll() {
+        Batch_search.searchAll(sorted, keys, out);
+        return out;
+    }
+}
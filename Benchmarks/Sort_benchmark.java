@@ -0,0 +1,97 @@
+package Benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Searching_and_sorting.*;
+
+// O(n log n) sorts across the full size range. Quick_sort.quickSort is O(n^2) and recurses once
+// per element on several distributions, so it is in Quick_sort_benchmark with a size cap instead.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class Sort_benchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "SAWTOOTH", "ZIPF"})
+    public Input_generator.Distribution distribution;
+
+    int[] source;
+    int[] work;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = Input_generator.generate(distribution, size, 42);
+        work = new int[size];
+    }
+
+    // Every benchmark restores the input first; this measures that copy on its own
+    @Benchmark
+    public int[] copyOnly() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    @Benchmark
+    public int[] inbuiltSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] inbuiltParallelSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Arrays.parallelSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Merge_sort.mergeSort(work, 0, size - 1);
+        return work;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Parallel_merge_sort.mergeSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] sampleSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Sample_sort.sampleSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Intro_sort.introSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] adaptiveSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Adaptive_sort.adaptiveSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        System.arraycopy(source, 0, work, 0, size);
+        Radix_sort.radixSort(work);
+        return work;
+    }
+}
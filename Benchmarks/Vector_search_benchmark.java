@@ -0,0 +1,72 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import Searching_and_sorting.Linear_search;
+import Searching_and_sorting.Vector_search;
+import Searching_and_sorting.Simd.Simd_search;
+
+// Scalar vs Vector API scans over unsorted data. The key sits in the last slot or is missing,
+// so every benchmark reads the whole array.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class Vector_search_benchmark {
+
+    @Param({"16", "100", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean present;
+
+    int[] arr;
+    int key;
+    Vector_search.Kernel scalar;
+    Vector_search.Kernel vector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        arr = Input_generator.generate(Input_generator.Distribution.RANDOM, size, 42);
+        key = arr[size - 1];
+        if (!present) {
+            key = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (arr[i] == key) {
+                    arr[i]++;
+                }
+            }
+        }
+        scalar = new Vector_search.Scalar();
+        vector = new Simd_search();
+    }
+
+    @Benchmark
+    public int linearSearch() {
+        return Linear_search.linear_search(arr, key);
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return scalar.indexOf(arr, key);
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return vector.indexOf(arr, key);
+    }
+
+    @Benchmark
+    public int scalarCount() {
+        return scalar.count(arr, key);
+    }
+
+    @Benchmark
+    public int vectorCount() {
+        return vector.count(arr, key);
+    }
+}
@@ -0,0 +1,10 @@
+#!/bin/sh
+# Runs both queue benchmarks once per thread-group size. JMH takes only one -tg per run,
+# so the sweep has to be separate runs. Results go to target/<benchmark>_<producers>x<consumers>.json.
+# Usage: ./queue_sweep.sh [extra JMH flags], after mvn package
+cd "$(dirname "$0")" || exit 1
+for tg in 1,1 4,4 16,16 32,32; do
+    for bench in Queue_contention_benchmark Bounded_queue_benchmark; do
+        java -jar target/benchmarks.jar "$bench" -tg "$tg" -rff "target/${bench}_$(echo "$tg" | tr , x).json" "$@" || exit 1
+    done
+done
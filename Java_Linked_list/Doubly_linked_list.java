@@ -0,0 +1,187 @@
+package Java_Linked_list;
+
+// Doubly linked list where every list is its own object (Linklist_creation keeps head, tail and
+// size in static fields, so there can only be one). Two sentinel nodes sit before the first and
+// after the last element, so adding or removing at either end, or unlinking a node the caller
+// holds on to, is O(1) with no special cases for an empty list.
+public class Doubly_linked_list {
+    public static class Node {
+        int data;
+        Node prev;
+        Node next;
+        Doubly_linked_list owner; // List the node is linked into, null once unlinked (and for sentinels)
+
+        public Node(int data) {
+            this.data = data;
+        }
+
+        public int getData() {
+            return data;
+        }
+    }
+
+    final Node head = new Node(0); // Sentinel before the first element
+    final Node tail = new Node(0); // Sentinel after the last element
+    int size;
+
+    public Doubly_linked_list() {
+        head.next = tail;
+        tail.prev = head;
+    }
+
+    // Links a new node between a and a.next and returns it as a handle for unlink()
+    private Node linkAfter(Node a, int data) {
+        Node newNode = new Node(data);
+        Node b = a.next;
+        newNode.owner = this;
+        newNode.prev = a;
+        newNode.next = b;
+        a.next = newNode;
+        b.prev = newNode;
+        size++;
+        return newNode;
+    }
+
+    public Node addFirst(int data) {
+        return linkAfter(head, data);
+    }
+
+    public Node addLast(int data) {
+        return linkAfter(tail.prev, data);
+    }
+
+    public Node addMid(int data, int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return linkAfter(index == size ? tail.prev : node(index).prev, data);
+    }
+
+    // Removes a node previously returned by this list, O(1)
+    public int unlink(Node node) {
+        if (node.owner != this) {
+            throw new IllegalArgumentException("Node is not in this list");
+        }
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = node.next = null;
+        node.owner = null; // Marks it as removed and lets a second unlink fail fast
+        size--;
+        return node.data;
+    }
+
+    // Throws rather than returning -1, which is a valid element
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return unlink(head.next);
+    }
+
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return unlink(tail.prev);
+    }
+
+    public int peekFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return head.next.data;
+    }
+
+    public int peekLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return tail.prev.data;
+    }
+
+    public int get(int index) {
+        return node(index).data;
+    }
+
+    // Walks from whichever end is closer, so at most size / 2 steps
+    public Node node(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node temp;
+        if (index < size / 2) {
+            temp = head.next;
+            for (int i = 0; i < index; i++) {
+                temp = temp.next;
+            }
+        } else {
+            temp = tail.prev;
+            for (int i = size - 1; i > index; i--) {
+                temp = temp.prev;
+            }
+        }
+        return temp;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void printList() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (Node temp = head.next; temp != tail; temp = temp.next) {
+            System.out.print(temp.data + "<->");
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        Doubly_linked_list ll = new Doubly_linked_list();
+        ll.printList(); // Output: List is empty
+        ll.addFirst(2);
+        ll.addFirst(1);
+        ll.addLast(3);
+        Node four = ll.addLast(4);
+        ll.addMid(5, 2);
+        System.out.println("Linked List:");
+        ll.printList(); // Output: 1<->2<->5<->3<->4<->null
+        ll.unlink(four);
+        System.out.println("After unlinking the node holding 4:");
+        ll.printList(); // Output: 1<->2<->5<->3<->null
+        System.out.println("Element at index 2: " + ll.get(2)); // Output: 5
+        ll.removeFirst();
+        ll.removeLast();
+        ll.printList(); // Output: 2<->5<->null
+
+        // Two lists at once, which the static Linklist_creation cannot do
+        Doubly_linked_list other = new Doubly_linked_list();
+        Node nine = other.addLast(9);
+        System.out.println("Sizes: " + ll.size() + " and " + other.size());
+        try {
+            ll.unlink(nine);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unlinking another list's node: " + e.getMessage()); // Output: Node is not in this list
+        }
+
+        // Draining from the back is O(n) overall instead of O(n^2)
+        int n = 5_000_000;
+        Doubly_linked_list big = new Doubly_linked_list();
+        for (int i = 0; i < n; i++) {
+            big.addLast(i);
+        }
+        long t0 = System.nanoTime();
+        long sum = 0;
+        while (!big.isEmpty()) {
+            sum += big.removeLast();
+        }
+        long t1 = System.nanoTime();
+        System.out.println("Drained " + n + " elements from the back in " + (t1 - t0) / 1_000_000 + " ms, sum " + sum);
+    }
+}
@@ -0,0 +1,373 @@
+package Java_Linked_list;
+
+// Doubly linked list of ints (nodes in int arrays, like Int_linked_list) with an index kept up
+// to date on every add and remove, so lookups by value don't walk the list:
+//  - an open-addressing hash table maps each distinct value to the first and last node holding
+//    it, and nodes with the same value are chained together in list order,
+//    so contains and remove(value) are O(1);
+//  - every node carries a label that increases along the list (adds only happen at the ends)
+//    and a Fenwick tree counts live labels, so indexOfFirst is O(log n).
+// Labels run out after many adds at one end; then all nodes are relabelled in one O(n) pass.
+public class Hash_indexed_list {
+    static final int NIL = -1;
+
+    // Node arena
+    int[] data, prev, next, sameNext, samePrev, label;
+    int head = NIL, tail = NIL, size;
+    int freeHead = NIL, used;
+
+    // value -> first / last node with that value; first == NIL marks a free table slot
+    int[] keys, first, last;
+    int distinct;
+
+    // Fenwick tree over labels [0, fenwick.length - 1)
+    int[] fenwick;
+    int lowLabel, highLabel; // Labels in use are [lowLabel, highLabel)
+
+    public Hash_indexed_list() {
+        int cap = 16;
+        data = new int[cap];
+        prev = new int[cap];
+        next = new int[cap];
+        sameNext = new int[cap];
+        samePrev = new int[cap];
+        label = new int[cap];
+        keys = new int[32];
+        first = new int[32];
+        last = new int[32];
+        java.util.Arrays.fill(first, NIL);
+        fenwick = new int[65];
+        lowLabel = highLabel = 32;
+    }
+
+    // ---------- public list operations ----------
+
+    public void addFirst(int value) {
+        if (lowLabel == 0) {
+            relabel();
+        }
+        int slot = allocate(value);
+        label[slot] = --lowLabel;
+        if (head == NIL) {
+            head = tail = slot;
+            highLabel = lowLabel + 1;
+        } else {
+            next[slot] = head;
+            prev[head] = slot;
+            head = slot;
+        }
+        fenwickAdd(label[slot], 1);
+        size++;
+
+        int t = findOrInsert(value);
+        if (first[t] == NIL) {
+            first[t] = last[t] = slot;
+        } else {
+            sameNext[slot] = first[t];
+            samePrev[first[t]] = slot;
+            first[t] = slot;
+        }
+    }
+
+    public void addLast(int value) {
+        if (highLabel == fenwick.length - 1) {
+            relabel();
+        }
+        int slot = allocate(value);
+        label[slot] = highLabel++;
+        if (head == NIL) {
+            head = tail = slot;
+            lowLabel = label[slot];
+        } else {
+            prev[slot] = tail;
+            next[tail] = slot;
+            tail = slot;
+        }
+        fenwickAdd(label[slot], 1);
+        size++;
+
+        int t = findOrInsert(value);
+        if (first[t] == NIL) {
+            first[t] = last[t] = slot;
+        } else {
+            samePrev[slot] = last[t];
+            sameNext[last[t]] = slot;
+            last[t] = slot;
+        }
+    }
+
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        int val = data[head];
+        unlink(head);
+        return val;
+    }
+
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        int val = data[tail];
+        unlink(tail);
+        return val;
+    }
+
+    // Removes the first occurrence of value; false if it is not in the list
+    public boolean remove(int value) {
+        int t = find(value);
+        if (t == NIL) {
+            return false;
+        }
+        unlink(first[t]);
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return find(value) != NIL;
+    }
+
+    // Index of the first occurrence of value, or -1
+    public int indexOfFirst(int value) {
+        int t = find(value);
+        if (t == NIL) {
+            return -1;
+        }
+        return fenwickPrefix(label[first[t]]); // Live nodes before it in the list
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Bytes used by the hash table, the same-value links, labels and the Fenwick tree
+    public long indexMemoryBytes() {
+        return 3 * (16 + 4L * keys.length)
+                + 3 * (16 + 4L * data.length)
+                + 16 + 4L * fenwick.length;
+    }
+
+    // Bytes used by the list itself (values and prev/next links)
+    public long listMemoryBytes() {
+        return 3 * (16 + 4L * data.length);
+    }
+
+    public void printList() {
+        if (head == NIL) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            System.out.print(data[slot] + "<->");
+        }
+        System.out.println("null");
+    }
+
+    // ---------- node arena ----------
+
+    private int allocate(int value) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == data.length) {
+                int cap = data.length * 2;
+                data = java.util.Arrays.copyOf(data, cap);
+                prev = java.util.Arrays.copyOf(prev, cap);
+                next = java.util.Arrays.copyOf(next, cap);
+                sameNext = java.util.Arrays.copyOf(sameNext, cap);
+                samePrev = java.util.Arrays.copyOf(samePrev, cap);
+                label = java.util.Arrays.copyOf(label, cap);
+            }
+            slot = used++;
+        }
+        data[slot] = value;
+        prev[slot] = next[slot] = sameNext[slot] = samePrev[slot] = NIL;
+        return slot;
+    }
+
+    private void unlink(int slot) {
+        // From the list
+        if (prev[slot] != NIL) {
+            next[prev[slot]] = next[slot];
+        } else {
+            head = next[slot];
+        }
+        if (next[slot] != NIL) {
+            prev[next[slot]] = prev[slot];
+        } else {
+            tail = prev[slot];
+        }
+        fenwickAdd(label[slot], -1);
+        size--;
+
+        // From its value chain
+        int t = find(data[slot]);
+        if (samePrev[slot] != NIL) {
+            sameNext[samePrev[slot]] = sameNext[slot];
+        } else {
+            first[t] = sameNext[slot];
+        }
+        if (sameNext[slot] != NIL) {
+            samePrev[sameNext[slot]] = samePrev[slot];
+        } else {
+            last[t] = samePrev[slot];
+        }
+        if (first[t] == NIL) {
+            deleteEntry(t);
+        }
+
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    // ---------- hash table: linear probing, deletion by backward shift (no tombstones) ----------
+
+    private int home(int value) {
+        return (value * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(keys.length));
+    }
+
+    private int find(int value) {
+        int mask = keys.length - 1;
+        for (int i = home(value); first[i] != NIL; i = (i + 1) & mask) {
+            if (keys[i] == value) {
+                return i;
+            }
+        }
+        return NIL;
+    }
+
+    // Table slot for value, claiming an empty one (first == NIL) if value is new
+    private int findOrInsert(int value) {
+        if (2 * (distinct + 1) > keys.length) {
+            resizeTable();
+        }
+        int mask = keys.length - 1;
+        int i = home(value);
+        while (first[i] != NIL) {
+            if (keys[i] == value) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = value;
+        distinct++;
+        return i;
+    }
+
+    private void deleteEntry(int i) {
+        int mask = keys.length - 1;
+        first[i] = last[i] = NIL;
+        distinct--;
+        // Pull later entries of the same probe run back so lookups never stop early
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (first[j] == NIL) {
+                return;
+            }
+            int h = home(keys[j]);
+            boolean movable = (i <= j) ? (h <= i || h > j) : (h <= i && h > j);
+            if (movable) {
+                keys[i] = keys[j];
+                first[i] = first[j];
+                last[i] = last[j];
+                first[j] = last[j] = NIL;
+                i = j;
+            }
+        }
+    }
+
+    private void resizeTable() {
+        int[] oldKeys = keys, oldFirst = first, oldLast = last;
+        keys = new int[oldKeys.length * 2];
+        first = new int[keys.length];
+        last = new int[keys.length];
+        java.util.Arrays.fill(first, NIL);
+        int mask = keys.length - 1;
+        for (int k = 0; k < oldKeys.length; k++) {
+            if (oldFirst[k] != NIL) {
+                int i = home(oldKeys[k]);
+                while (first[i] != NIL) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[k];
+                first[i] = oldFirst[k];
+                last[i] = oldLast[k];
+            }
+        }
+    }
+
+    // ---------- Fenwick tree over labels ----------
+
+    private void fenwickAdd(int lbl, int delta) {
+        for (int i = lbl + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    // Number of live labels < lbl
+    private int fenwickPrefix(int lbl) {
+        int sum = 0;
+        for (int i = lbl; i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+
+    // Spreads the current nodes over the middle of a label range 4x the list size
+    // and rebuilds the Fenwick tree in O(range)
+    private void relabel() {
+        int range = Math.max(64, 4 * (size + 1));
+        fenwick = new int[range + 1];
+        lowLabel = (range - size) / 2;
+        int lbl = lowLabel;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            label[slot] = lbl;
+            fenwick[lbl + 1] = 1;
+            lbl++;
+        }
+        highLabel = lbl;
+        for (int i = 1; i <= range; i++) {
+            int j = i + (i & -i);
+            if (j <= range) {
+                fenwick[j] += fenwick[i];
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        Hash_indexed_list ll = new Hash_indexed_list();
+        ll.addLast(1);
+        ll.addLast(2);
+        ll.addLast(3);
+        ll.addLast(2);
+        ll.addFirst(4);
+        System.out.println("Linked List:");
+        ll.printList(); // Output: 4<->1<->2<->3<->2<->null
+        System.out.println("Contains 3: " + ll.contains(3) + ", first 2 at index: " + ll.indexOfFirst(2));
+        ll.remove(2);
+        System.out.println("After removing the first 2:");
+        ll.printList(); // Output: 4<->1<->3<->2<->null
+        System.out.println("First 2 is now at index: " + ll.indexOfFirst(2)); // Output: 3
+        ll.removeFirst();
+        ll.printList(); // Output: 1<->3<->2<->null
+
+        int n = 5_000_000;
+        Hash_indexed_list big = new Hash_indexed_list();
+        for (int i = 0; i < n; i++) {
+            big.addLast(i);
+        }
+        long t0 = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            sum += big.indexOfFirst(n - 1 - i);
+        }
+        long t1 = System.nanoTime();
+        System.out.println("1M lookups in a " + n + " element list: " + (t1 - t0) / 1_000_000 + " ms (checksum " + sum
+                + "), index uses " + big.indexMemoryBytes() / (1 << 20) + " MB, list uses "
+                + big.listMemoryBytes() / (1 << 20) + " MB");
+    }
+}
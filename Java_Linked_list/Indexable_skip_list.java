@@ -0,0 +1,248 @@
+package Java_Linked_list;
+
+// Linked list of ints with O(log n) expected positional access. On top of the ordinary
+// next-pointer chain (level 0) every node has a random number of express lanes; each lane
+// link also stores its span, the number of level-0 steps it skips. Adding spans while
+// descending gives the position of any node, so get / addMid / remove by index skip most of
+// the walk that Linklist_creation.addMid does one node at a time.
+// indexOf(value) and addSorted(value) search by value the same way, which is only meaningful
+// while the list is in ascending order (as after fromSorted or only ever using addSorted).
+public class Indexable_skip_list {
+    static final int MAX_LEVEL = 32;
+
+    public static class Node {
+        int data;
+        final Node[] next;
+        final int[] span; // span[l] = positions from this node to next[l] (to the end if next[l] is null)
+
+        Node(int data, int level) {
+            this.data = data;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    final Node head = new Node(0, MAX_LEVEL); // Sentinel at position 0, elements are at 1..size
+    int level = 1;                            // Lanes currently in use
+    int size;
+    private int seed = 0x2545F491;
+
+    // Levels 1, 2, 3, ... with probability 1/2, 1/4, 1/8, ...
+    private int randomLevel() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(seed | (1 << (MAX_LEVEL - 1))) + 1);
+    }
+
+    // Fills update[l] with the last node on lane l at position <= pos, and rank[l] with its position
+    private void findPredecessors(int pos, Node[] update, int[] rank) {
+        Node x = head;
+        int r = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && r + x.span[l] <= pos) {
+                r += x.span[l];
+                x = x.next[l];
+            }
+            update[l] = x;
+            rank[l] = r;
+        }
+    }
+
+    public void addFirst(int data) {
+        addMid(data, 0);
+    }
+
+    public void addLast(int data) {
+        addMid(data, size);
+    }
+
+    public void addMid(int data, int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+
+        int lvl = randomLevel();
+        if (lvl > level) {
+            for (int l = level; l < lvl; l++) {
+                update[l] = head;
+                rank[l] = 0;
+                head.span[l] = size;
+            }
+            level = lvl;
+        }
+        Node newNode = new Node(data, lvl);
+        for (int l = 0; l < lvl; l++) {
+            int before = rank[0] - rank[l]; // Steps from update[l] to the node before the new one
+            newNode.next[l] = update[l].next[l];
+            newNode.span[l] = update[l].span[l] - before;
+            update[l].next[l] = newNode;
+            update[l].span[l] = before + 1;
+        }
+        // Taller lanes now jump over one more node
+        for (int l = lvl; l < level; l++) {
+            update[l].span[l]++;
+        }
+        size++;
+    }
+
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+        Node x = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            if (update[l].next[l] == x) {
+                update[l].span[l] += x.span[l] - 1;
+                update[l].next[l] = x.next[l];
+            } else {
+                update[l].span[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return x.data;
+    }
+
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return remove(size - 1);
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Node x = head;
+        int r = 0;
+        int target = index + 1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && r + x.span[l] <= target) {
+                r += x.span[l];
+                x = x.next[l];
+            }
+            if (r == target) {
+                break;
+            }
+        }
+        return x.data;
+    }
+
+    // Number of elements smaller than value (ascending lists only)
+    public int lowerBound(int value) {
+        Node x = head;
+        int r = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (x.next[l] != null && x.next[l].data < value) {
+                r += x.span[l];
+                x = x.next[l];
+            }
+        }
+        return r;
+    }
+
+    // Index of the first element equal to value, or -1 (ascending lists only)
+    public int indexOf(int value) {
+        int i = lowerBound(value);
+        return i < size && get(i) == value ? i : -1;
+    }
+
+    // Inserts value at the position that keeps an ascending list ascending
+    public void addSorted(int value) {
+        addMid(value, lowerBound(value));
+    }
+
+    // Builds the list from an ascending array in O(n): the node at position r gets
+    // numberOfTrailingZeros(r) + 1 lanes, which is a perfectly balanced skip list
+    public static Indexable_skip_list fromSorted(int[] sorted) {
+        Indexable_skip_list list = new Indexable_skip_list();
+        Node[] last = new Node[MAX_LEVEL];
+        int[] lastRank = new int[MAX_LEVEL];
+        java.util.Arrays.fill(last, list.head);
+        int top = 1;
+        for (int i = 0; i < sorted.length; i++) {
+            int r = i + 1;
+            int lvl = Math.min(MAX_LEVEL, Integer.numberOfTrailingZeros(r) + 1);
+            Node node = new Node(sorted[i], lvl);
+            for (int l = 0; l < lvl; l++) {
+                last[l].next[l] = node;
+                last[l].span[l] = r - lastRank[l];
+                last[l] = node;
+                lastRank[l] = r;
+            }
+            top = Math.max(top, lvl);
+        }
+        int n = sorted.length;
+        for (int l = 0; l < top; l++) {
+            last[l].span[l] = n - lastRank[l];
+        }
+        list.level = top;
+        list.size = n;
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void printList() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (Node temp = head.next[0]; temp != null; temp = temp.next[0]) {
+            System.out.print(temp.data + "->");
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        Indexable_skip_list ll = new Indexable_skip_list();
+        ll.printList(); // Output: List is empty
+        ll.addFirst(2);
+        ll.addFirst(1);
+        ll.addLast(3);
+        ll.addLast(4);
+        System.out.println("Linked List:");
+        ll.printList(); // Output: 1->2->3->4->null
+        ll.addMid(5, 2);
+        System.out.println("After adding 5 at index 2:");
+        ll.printList(); // Output: 1->2->5->3->4->null
+        System.out.println("Element at index 3: " + ll.get(3)); // Output: 3
+        ll.removeFirst();
+        ll.removeLast();
+        ll.printList(); // Output: 2->5->3->null
+
+        int[] sorted = new int[1_000_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = 2 * i;
+        }
+        Indexable_skip_list big = fromSorted(sorted);
+        big.addSorted(777);
+        System.out.println("777 is at index " + big.indexOf(777) + ", element at 500000: " + big.get(500000));
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            big.addMid(i, 500_000);
+        }
+        long t1 = System.nanoTime();
+        System.out.println("100000 inserts in the middle of a 1M list: " + (t1 - t0) / 1_000_000 + " ms");
+    }
+}
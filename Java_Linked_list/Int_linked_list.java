@@ -0,0 +1,215 @@
+package Java_Linked_list;
+
+// Linked list of ints with the nodes stored as two parallel int arrays instead of Node objects.
+// Slot i holds data[i] and the slot index of its successor in next[i]; NIL marks the end.
+// Removed slots go on a free list (chained through next[]) and are reused by later adds.
+// Compared to Linklist_creation.Node (object header + int + reference, 24 bytes or more)
+// each element costs 8 bytes, and walking the list touches two dense arrays.
+public class Int_linked_list {
+    static final int NIL = -1;
+    static final int DEFAULT_CAPACITY = 16;
+
+    int[] data;
+    int[] next;
+    int head = NIL;
+    int tail = NIL;
+    int size;
+    int freeHead = NIL; // First recycled slot
+    int used;           // Slots handed out at least once; slots >= used have never been touched
+
+    public Int_linked_list() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Int_linked_list(int capacity) {
+        capacity = Math.max(capacity, 1);
+        data = new int[capacity];
+        next = new int[capacity];
+    }
+
+    // Takes a slot from the free list, or the next untouched one, growing the arrays by 1.5x
+    private int allocate(int value) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == data.length) {
+                int capacity = data.length + (data.length >> 1) + 1;
+                data = java.util.Arrays.copyOf(data, capacity);
+                next = java.util.Arrays.copyOf(next, capacity);
+            }
+            slot = used++;
+        }
+        data[slot] = value;
+        next[slot] = NIL;
+        return slot;
+    }
+
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    public void addFirst(int value) {
+        int slot = allocate(value);
+        size++;
+        if (head == NIL) {
+            head = tail = slot;
+            return;
+        }
+        next[slot] = head;
+        head = slot;
+    }
+
+    public void addLast(int value) {
+        int slot = allocate(value);
+        size++;
+        if (head == NIL) {
+            head = tail = slot;
+            return;
+        }
+        next[tail] = slot;
+        tail = slot;
+    }
+
+    public void addMid(int value, int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == 0) {
+            addFirst(value);
+            return;
+        }
+        if (index == size) {
+            addLast(value);
+            return;
+        }
+        int prev = slotAt(index - 1);
+        int slot = allocate(value);
+        next[slot] = next[prev];
+        next[prev] = slot;
+        size++;
+    }
+
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        int slot = head;
+        int val = data[slot];
+        head = next[slot];
+        if (head == NIL) {
+            tail = NIL;
+        }
+        release(slot);
+        size--;
+        return val;
+    }
+
+    // Singly linked like Linklist_creation, so finding the new tail is still a walk,
+    // but the walk runs over next[] instead of chasing heap pointers
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        if (size == 1) {
+            return removeFirst();
+        }
+        int prev = slotAt(size - 2);
+        int slot = tail;
+        int val = data[slot];
+        next[prev] = NIL;
+        tail = prev;
+        release(slot);
+        size--;
+        return val;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return data[slotAt(index)];
+    }
+
+    private int slotAt(int index) {
+        if (index == size - 1) {
+            return tail;
+        }
+        int slot = head;
+        for (int i = 0; i < index; i++) {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    // Index of the first element equal to key, or -1
+    public int indexOf(int key) {
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (data[slot] == key) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = tail = freeHead = NIL;
+        size = used = 0;
+    }
+
+    // Bytes held by the two backing arrays
+    public long memoryBytes() {
+        return 2 * (16 + 4L * data.length);
+    }
+
+    public void printList() {
+        if (head == NIL) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            System.out.print(data[slot] + "->");
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        Int_linked_list ll = new Int_linked_list();
+        ll.printList(); // Output: List is empty
+        ll.addFirst(2);
+        ll.addFirst(1);
+        ll.addLast(3);
+        ll.addLast(4);
+        System.out.println("Linked List:");
+        ll.printList(); // Output: 1->2->3->4->null
+        ll.addMid(5, 2);
+        System.out.println("After adding 5 at index 2:");
+        ll.printList(); // Output: 1->2->5->3->4->null
+        ll.removeFirst();
+        ll.removeLast();
+        System.out.println("After removing the first and last element:");
+        ll.printList(); // Output: 2->5->3->null
+        ll.addLast(6); // Reuses a freed slot
+        ll.printList(); // Output: 2->5->3->6->null
+        System.out.println("Size of linked list: " + ll.size());
+
+        int n = 10_000_000;
+        Int_linked_list big = new Int_linked_list(n);
+        for (int i = 0; i < n; i++) {
+            big.addLast(i);
+        }
+        long t0 = System.nanoTime();
+        int found = big.indexOf(n - 1);
+        long t1 = System.nanoTime();
+        System.out.println("Found " + (n - 1) + " at " + found + " in " + (t1 - t0) / 1_000_000 + " ms, list uses "
+                + big.memoryBytes() / (1 << 20) + " MB");
+    }
+}
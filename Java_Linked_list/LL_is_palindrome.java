@@ -51,6 +51,81 @@ public class LL_is_palindrome {
 
     }
 
+    // Same check, but the second half is reversed back afterwards so the caller's list is
+    // left exactly as it was. Still O(1) extra memory, but it writes to the list while it
+    // runs, so nobody else may read it at the same time.
+    public boolean isPalindromeRestoring(Node head) {
+        if (head == null || head.next == null) {
+            return true;
+        }
+        Node right = reverse(FideMid(head)); // The node before mid still points at mid
+        boolean result = true;
+        for (Node left = head, r = right; r != null; left = left.next, r = r.next) {
+            if (left.data != r.data) {
+                result = false;
+                break;
+            }
+        }
+        reverse(right); // Puts the links of the second half back
+        return result;
+    }
+
+    private static Node reverse(Node current) {
+        Node prev = null;
+        while (current != null) {
+            Node next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
+        }
+        return prev;
+    }
+
+    static final long MOD = (1L << 61) - 1; // Mersenne prime, so reducing is a shift and an add
+
+    // Read-only check in a single pass: builds the polynomial hash of the list read forwards
+    // (h = h * B + x) and read backwards (h += x * B^i) at the same time. A list is a
+    // palindrome exactly when it equals its reverse, which is when its first half matches
+    // its reversed second half, so the two hashes agree. Nothing is written and nothing is
+    // allocated, so other threads can keep reading the list. The base is random for every
+    // call, so a list that is not a palindrome still passes with probability at most
+    // about n / 2^61. Confirm with isPalindromeRestoring if that is not good enough.
+    public boolean isPalindromeHashed(Node head) {
+        long base = java.util.concurrent.ThreadLocalRandom.current().nextLong(256, MOD);
+        long forward = 0;
+        long backward = 0;
+        long power = 1;
+        for (Node temp = head; temp != null; temp = temp.next) {
+            long x = (long) temp.data - Integer.MIN_VALUE; // 0 .. 2^32 - 1, below MOD
+            forward = addMod(mulMod(forward, base), x);
+            backward = addMod(backward, mulMod(x, power));
+            power = mulMod(power, base);
+        }
+        return forward == backward;
+    }
+
+    // a * b mod 2^61 - 1 for a, b < 2^61
+    static long mulMod(long a, long b) {
+        long hi = Math.multiplyHigh(a, b);
+        long lo = a * b;
+        long r = (lo & MOD) + (lo >>> 61) + (hi << 3);
+        r = (r & MOD) + (r >>> 61);
+        return r >= MOD ? r - MOD : r;
+    }
+
+    static long addMod(long a, long b) {
+        long r = a + b;
+        return r >= MOD ? r - MOD : r;
+    }
+
+    static int length(Node head) {
+        int count = 0;
+        for (Node temp = head; temp != null; temp = temp.next) {
+            count++;
+        }
+        return count;
+    }
+
     public static void main(String[] args) {
         // Creating a linked list for testing
         head = new Node(1);
@@ -66,6 +141,31 @@ public class LL_is_palindrome {
         } else {
             System.out.println("The linked list is not a palindrome.");
         }
+
+        // isPalindrome leaves the list cut after the middle; the other two leave it intact
+        Node list = new Node(1);
+        list.next = new Node(2);
+        list.next.next = new Node(2);
+        list.next.next.next = new Node(1);
+        System.out.println("Restoring check: " + ll.isPalindromeRestoring(list) + ", hashed check: "
+                + ll.isPalindromeHashed(list) + ", list still has " + length(list) + " nodes"); // Output: true, true, 4
+        list.next.next.next.next = new Node(3);
+        System.out.println("After appending 3: " + ll.isPalindromeHashed(list)); // Output: false
+
+        int n = 10_000_000;
+        Node big = new Node(0);
+        Node tail = big;
+        for (int i = 1; i < n; i++) {
+            tail.next = new Node(Math.min(i, n - 1 - i));
+            tail = tail.next;
+        }
+        long t0 = System.nanoTime();
+        boolean restoring = ll.isPalindromeRestoring(big);
+        long t1 = System.nanoTime();
+        boolean hashed = ll.isPalindromeHashed(big);
+        long t2 = System.nanoTime();
+        System.out.println(n + " nodes: restoring " + restoring + " in " + (t1 - t0) / 1_000_000 + " ms, hashed "
+                + hashed + " in " + (t2 - t1) / 1_000_000 + " ms");
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package Java_Linked_list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Michael-Scott lock-free queue: the Linklist_creation addLast / RemoveFrist pattern made safe
+// for any number of producer and consumer threads. head always points at a dummy node whose
+// successor is the first element; tail points at the last node or, briefly, the one before it.
+// Every change is a single compare-and-set through a VarHandle, and a thread that finds tail
+// lagging helps move it forward instead of waiting for the thread that fell behind.
+public class Lock_free_queue<E> {
+    static class Node<E> {
+        E data;
+        volatile Node<E> next;
+
+        Node(E data) {
+            this.data = data;
+        }
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            HEAD = l.findVarHandle(Lock_free_queue.class, "head", Node.class);
+            TAIL = l.findVarHandle(Lock_free_queue.class, "tail", Node.class);
+            NEXT = l.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+
+    public Lock_free_queue() {
+        Node<E> dummy = new Node<>(null);
+        head = tail = dummy;
+    }
+
+    public void addLast(E data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        Node<E> newNode = new Node<>(data);
+        while (true) {
+            Node<E> t = tail;
+            Node<E> next = t.next;
+            if (t != tail) {
+                continue;            // tail moved while we were reading it
+            }
+            if (next == t) {
+                continue;            // t was already dequeued and self-linked, tail has moved on
+            }
+            if (next != null) {
+                TAIL.compareAndSet(this, t, next); // Help a slow enqueuer finish
+                continue;
+            }
+            if (NEXT.compareAndSet(t, null, newNode)) {
+                TAIL.compareAndSet(this, t, newNode); // Fine if it fails, someone helped
+                return;
+            }
+        }
+    }
+
+    // Returns null when the queue is empty
+    public E removeFirst() {
+        while (true) {
+            Node<E> h = head;
+            Node<E> t = tail;
+            Node<E> next = h.next;
+            if (h != head || next == h) {
+                continue;            // Stale head, another consumer got there first
+            }
+            if (next == null) {
+                return null;
+            }
+            if (h == t) {
+                TAIL.compareAndSet(this, t, next); // tail is lagging behind an element, fix it first
+                continue;
+            }
+            E data = next.data;
+            if (HEAD.compareAndSet(this, h, next)) {
+                next.data = null;    // next is the new dummy, drop its reference to the element
+                // Self-link the old dummy: stale readers see next == h and retry, and a
+                // dequeued node can no longer keep the rest of the queue reachable for the GC
+                NEXT.setRelease(h, h);
+                return data;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    // Same queue with at most `capacity` elements: addLast fails instead of growing,
+    // and put / take wait with backoff, which pushes back on producers that run ahead
+    public static class Bounded<E> {
+        final Lock_free_queue<E> queue = new Lock_free_queue<>();
+        final AtomicInteger count = new AtomicInteger();
+        final int capacity;
+
+        public Bounded(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive");
+            }
+            this.capacity = capacity;
+        }
+
+        // false if the queue is full
+        public boolean addLast(E data) {
+            int c;
+            do {
+                c = count.get();
+                if (c >= capacity) {
+                    return false;
+                }
+            } while (!count.compareAndSet(c, c + 1));
+            queue.addLast(data);
+            return true;
+        }
+
+        public E removeFirst() {
+            E data = queue.removeFirst();
+            if (data != null) {
+                count.decrementAndGet();
+            }
+            return data;
+        }
+
+        public void put(E data) {
+            for (int spins = 0; !addLast(data); spins++) {
+                backoff(spins);
+            }
+        }
+
+        public E take() {
+            E data;
+            for (int spins = 0; (data = removeFirst()) == null; spins++) {
+                backoff(spins);
+            }
+            return data;
+        }
+
+        public int size() {
+            return count.get();
+        }
+
+        // Spin briefly, then yield, then sleep in short parks
+        static void backoff(int spins) {
+            if (spins < 64) {
+                Thread.onSpinWait();
+            } else if (spins < 128) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(1_000);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Lock_free_queue<Integer> q = new Lock_free_queue<>();
+        q.addLast(1);
+        q.addLast(2);
+        q.addLast(3);
+        System.out.println("Removed: " + q.removeFirst() + ", " + q.removeFirst() + ", " + q.removeFirst());
+        System.out.println("Empty queue returns: " + q.removeFirst());
+
+        // 4 producers and 4 consumers through a bounded queue
+        int producers = 4, perProducer = 250_000;
+        Bounded<Integer> bounded = new Bounded<>(1024);
+        java.util.concurrent.atomic.AtomicLong sum = new java.util.concurrent.atomic.AtomicLong();
+        Thread[] threads = new Thread[2 * producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    bounded.put(i);
+                }
+            });
+            threads[producers + p] = new Thread(() -> {
+                long local = 0;
+                for (int i = 0; i < perProducer; i++) {
+                    local += bounded.take();
+                }
+                sum.addAndGet(local);
+            });
+        }
+        long t0 = System.nanoTime();
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        long t1 = System.nanoTime();
+        long expected = (long) producers * perProducer * (perProducer + 1) / 2;
+        System.out.println("Moved " + producers * perProducer + " items in " + (t1 - t0) / 1_000_000
+                + " ms, sum correct: " + (sum.get() == expected) + ", left over: " + bounded.size());
+    }
+}
@@ -14,6 +14,10 @@ public class Remove_nth_end {
     public static Node head;
 
     public static int size() {
+        return size(head);
+    }
+
+    public static int size(Node head) {
         int size = 0;
         Node temp = head;
         while (temp != null) {
@@ -22,21 +26,78 @@ public class Remove_nth_end {
         }
         return size;
     }
+
+    // Two pointers in one pass over the list that was passed in: fast starts n nodes ahead,
+    // so when it reaches the last node, slow is just before the nth node from the end.
+    // Starting both at a dummy node in front of head means removing the head needs no special case.
     public static Node removeNthFromEnd(Node head, int n) {
-        int size = size();
-        if (n == size) {
-            head = head.next; // Remove the first node
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be at least 1: " + n);
+        }
+        Node dummy = new Node(0);
+        dummy.next = head;
+        Node fast = dummy;
+        for (int i = 0; i < n; i++) {
+            fast = fast.next;
+            if (fast == null) {
+                throw new IndexOutOfBoundsException("n: " + n + ", Size: " + i);
+            }
+        }
+        Node slow = dummy;
+        while (fast.next != null) {
+            fast = fast.next;
+            slow = slow.next;
+        }
+        slow.next = slow.next.next; // Remove the nth node from the end
+        return dummy.next;
+    }
+
+    // Removes every listed position (1 = last node) in one pass. The lead pointer starts
+    // max(positions) nodes ahead, so when it reaches the end the trailing pointer is just before
+    // the farthest position, and only those last max(positions) nodes are walked a second time
+    // to unlink the rest. Duplicate positions are removed once. Returns the new head.
+    public static Node removeFromEnd(Node head, int... positions) {
+        if (positions.length == 0) {
             return head;
         }
-        int i = 1;
-        int iToFind = size - n;
-        Node temp = head;
-        while (temp != null && i < iToFind) {
-            temp = temp.next;
-            i++;
+        int[] sorted = positions.clone();
+        java.util.Arrays.sort(sorted);
+        if (sorted[0] < 1) {
+            throw new IllegalArgumentException("Positions must be at least 1: " + sorted[0]);
         }
-        temp.next = temp.next.next; // Remove the nth node from the end
-        return head;
+        int farthest = sorted[sorted.length - 1];
+
+        Node dummy = new Node(0);
+        dummy.next = head;
+        Node lead = dummy;
+        for (int i = 0; i < farthest; i++) {
+            lead = lead.next;
+            if (lead == null) {
+                throw new IndexOutOfBoundsException("Position: " + farthest + ", Size: " + i);
+            }
+        }
+        Node trail = dummy;
+        while (lead.next != null) {
+            lead = lead.next;
+            trail = trail.next;
+        }
+
+        // trail.next is at position `farthest`; walk towards the end taking positions in descending order
+        int k = sorted.length - 1;
+        int pos = farthest;
+        Node prev = trail;
+        while (k >= 0) {
+            if (pos == sorted[k]) {
+                prev.next = prev.next.next;
+                while (k >= 0 && sorted[k] == pos) {
+                    k--; // Skip duplicates
+                }
+            } else {
+                prev = prev.next;
+            }
+            pos--;
+        }
+        return dummy.next;
     }
 
     public static void printList(Node head) {
@@ -64,6 +125,32 @@ public class Remove_nth_end {
 
         System.out.println("List after removing " + n + "th node from the end:");
         printList(head); // Output: 1->2->3->5->null
+
+        head = removeFromEnd(head, 1, 4);
+        System.out.println("After removing the 1st and 4th nodes from the end:");
+        printList(head); // Output: 2->3->null
+
+        // Trim the last 1000 nodes of a long list: one batched call vs one call per position
+        int size = 10_000_000;
+        Node big = null;
+        for (int i = size - 1; i >= 0; i--) {
+            Node node = new Node(i);
+            node.next = big;
+            big = node;
+        }
+        int[] positions = new int[1000];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = 2 * i + 1; // Every other node among the last 2000
+        }
+        long t0 = System.nanoTime();
+        big = removeFromEnd(big, positions);
+        long t1 = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            big = removeNthFromEnd(big, 1);
+        }
+        long t2 = System.nanoTime();
+        System.out.println("Batched removal of " + positions.length + " positions: " + (t1 - t0) / 1_000_000
+                + " ms, 10 single removals: " + (t2 - t1) / 1_000_000 + " ms, size now " + size(big));
     }
 
     
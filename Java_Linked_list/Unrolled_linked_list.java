@@ -0,0 +1,260 @@
+package Java_Linked_list;
+
+// Unrolled linked list: a doubly linked list of blocks, each holding up to BLOCK ints in a
+// plain array. A scan reads BLOCK values per node it visits instead of one, so it runs close
+// to array speed, while joining lists stays O(1). A full block is split in two on insert,
+// and after a delete a block is merged with its successor whenever both fit in one, which
+// keeps blocks at least half full on average.
+public class Unrolled_linked_list {
+    public static final int BLOCK = 64;
+
+    static class Block {
+        final int[] items = new int[BLOCK];
+        int count;
+        Block prev;
+        Block next;
+    }
+
+    Block head;
+    Block tail;
+    int size;
+
+    private Block newBlockAfter(Block b) {
+        Block nb = new Block();
+        nb.prev = b;
+        if (b == null) {
+            nb.next = head;
+            if (head != null) {
+                head.prev = nb;
+            }
+            head = nb;
+        } else {
+            nb.next = b.next;
+            if (b.next != null) {
+                b.next.prev = nb;
+            }
+            b.next = nb;
+        }
+        if (nb.next == null) {
+            tail = nb;
+        }
+        return nb;
+    }
+
+    private void unlink(Block b) {
+        if (b.prev != null) {
+            b.prev.next = b.next;
+        } else {
+            head = b.next;
+        }
+        if (b.next != null) {
+            b.next.prev = b.prev;
+        } else {
+            tail = b.prev;
+        }
+    }
+
+    public void addFirst(int data) {
+        if (head == null || head.count == BLOCK) {
+            newBlockAfter(null);
+        }
+        Block b = head;
+        System.arraycopy(b.items, 0, b.items, 1, b.count);
+        b.items[0] = data;
+        b.count++;
+        size++;
+    }
+
+    public void addLast(int data) {
+        if (tail == null || tail.count == BLOCK) {
+            newBlockAfter(tail);
+        }
+        tail.items[tail.count++] = data;
+        size++;
+    }
+
+    public void addMid(int data, int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            addLast(data);
+            return;
+        }
+        // Find the block holding position index
+        Block b = head;
+        int offset = index;
+        while (offset >= b.count) {
+            offset -= b.count;
+            b = b.next;
+        }
+        if (b.count == BLOCK) {
+            // Split: move the upper half into a new block right after this one
+            Block nb = newBlockAfter(b);
+            int half = BLOCK / 2;
+            System.arraycopy(b.items, half, nb.items, 0, BLOCK - half);
+            nb.count = BLOCK - half;
+            b.count = half;
+            if (offset > half) {
+                b = nb;
+                offset -= half;
+            }
+        }
+        System.arraycopy(b.items, offset, b.items, offset + 1, b.count - offset);
+        b.items[offset] = data;
+        b.count++;
+        size++;
+    }
+
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Block b = head;
+        int offset = index;
+        while (offset >= b.count) {
+            offset -= b.count;
+            b = b.next;
+        }
+        int val = b.items[offset];
+        System.arraycopy(b.items, offset + 1, b.items, offset, b.count - offset - 1);
+        b.count--;
+        size--;
+        if (b.count == 0) {
+            unlink(b);
+        } else if (b.next != null && b.count + b.next.count <= BLOCK) {
+            // Merge the successor in so half-empty blocks don't pile up
+            Block n = b.next;
+            System.arraycopy(n.items, 0, b.items, b.count, n.count);
+            b.count += n.count;
+            unlink(n);
+        }
+        return val;
+    }
+
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    // O(1): the last element is always at the end of the tail block
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException();
+        }
+        int val = tail.items[--tail.count];
+        size--;
+        if (tail.count == 0) {
+            unlink(tail);
+        }
+        return val;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Block b = head;
+        while (index >= b.count) {
+            index -= b.count;
+            b = b.next;
+        }
+        return b.items[index];
+    }
+
+    // Index of the first element equal to key, or -1
+    public int indexOf(int key) {
+        int base = 0;
+        for (Block b = head; b != null; b = b.next) {
+            int[] items = b.items;
+            for (int i = 0, n = b.count; i < n; i++) {
+                if (items[i] == key) {
+                    return base + i;
+                }
+            }
+            base += b.count;
+        }
+        return -1;
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (Block b = head; b != null; b = b.next) {
+            int[] items = b.items;
+            for (int i = 0, n = b.count; i < n; i++) {
+                sum += items[i];
+            }
+        }
+        return sum;
+    }
+
+    // Moves every element of other to the end of this list in O(1); other ends up empty
+    public void append(Unrolled_linked_list other) {
+        if (other == this || other.head == null) {
+            return;
+        }
+        if (head == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+            other.head.prev = tail;
+        }
+        tail = other.tail;
+        size += other.size;
+        other.head = other.tail = null;
+        other.size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void printList() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        for (Block b = head; b != null; b = b.next) {
+            for (int i = 0; i < b.count; i++) {
+                System.out.print(b.items[i] + "->");
+            }
+        }
+        System.out.println("null");
+    }
+
+    public static void main(String[] args) {
+        Unrolled_linked_list ll = new Unrolled_linked_list();
+        ll.printList(); // Output: List is empty
+        ll.addFirst(2);
+        ll.addFirst(1);
+        ll.addLast(3);
+        ll.addLast(4);
+        System.out.println("Linked List:");
+        ll.printList(); // Output: 1->2->3->4->null
+        ll.addMid(5, 2);
+        System.out.println("After adding 5 at index 2:");
+        ll.printList(); // Output: 1->2->5->3->4->null
+        ll.removeFirst();
+        ll.removeLast();
+        ll.printList(); // Output: 2->5->3->null
+
+        Unrolled_linked_list other = new Unrolled_linked_list();
+        other.addLast(8);
+        other.addLast(9);
+        ll.append(other);
+        System.out.println("After appending another list:");
+        ll.printList(); // Output: 2->5->3->8->9->null
+
+        int n = 10_000_000;
+        Unrolled_linked_list big = new Unrolled_linked_list();
+        for (int i = 0; i < n; i++) {
+            big.addLast(i);
+        }
+        long t0 = System.nanoTime();
+        long sum = big.sum();
+        long t1 = System.nanoTime();
+        System.out.println("Scanned " + n + " elements in " + (t1 - t0) / 1_000_000 + " ms, sum " + sum);
+    }
+}
@@ -0,0 +1,138 @@
+package Recursion;
+
+// Search index over a sorted array that has been rotated, e.g. a ring-buffer snapshot.
+// Search_in_rotated_array.search works out which half is sorted again on every query; this
+// finds the rotation offset once and then treats the array as a plain sorted "logical" view
+// where logical index i lives at physical index (offset + i) % n.
+public class Rotated_index {
+
+    final int[] nums;
+    int offset; // Physical index of the smallest element, i.e. logical index 0
+
+    public Rotated_index(int[] nums) {
+        this.nums = nums;
+        this.offset = findOffset(nums);
+    }
+
+    // Index of the minimum in O(log n). Duplicates can hide which side the rotation is on,
+    // so an equal right end is just dropped, which is O(n) only for very repetitive input.
+    static int findOffset(int[] nums) {
+        int lo = 0, hi = nums.length - 1;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (nums[mid] > nums[hi]) {
+                lo = mid + 1;
+            } else if (nums[mid] < nums[hi]) {
+                hi = mid;
+            } else if (hi > 0 && nums[hi - 1] > nums[hi]) {
+                return hi; // nums[hi] is where the rotation starts
+            } else {
+                hi--;
+            }
+        }
+        return lo;
+    }
+
+    // The underlying array was rotated right by k positions (ring buffer head moved), O(1)
+    public void rotated(int k) {
+        int n = nums.length;
+        if (n > 0) {
+            offset = Math.floorMod(offset + k, n);
+        }
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public int size() {
+        return nums.length;
+    }
+
+    public int physical(int logical) {
+        int p = offset + logical;
+        return p >= nums.length ? p - nums.length : p;
+    }
+
+    // Element at a position of the sorted view
+    public int get(int logical) {
+        return nums[physical(logical)];
+    }
+
+    // Physical index of key, or -1; same contract as Search_in_rotated_array.search
+    public int indexOf(int key) {
+        int i = lowerBound(key);
+        return i < nums.length && get(i) == key ? physical(i) : -1;
+    }
+
+    // Logical index of the first element >= key, or size() if none
+    public int lowerBound(int key) {
+        int lo = 0, hi = nums.length;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (get(mid) < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Logical index of the first element > key, or size() if none
+    public int upperBound(int key) {
+        int lo = 0, hi = nums.length;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (get(mid) <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Number of elements with from <= value <= to
+    public int countInRange(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return upperBound(to) - lowerBound(from);
+    }
+
+    // Elements with from <= value <= to, in ascending order
+    public int[] range(int from, int to) {
+        int start = lowerBound(from);
+        int count = countInRange(from, to);
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) {
+            out[i] = get(start + i);
+        }
+        return out;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int[] nums = {4, 5, 6, 7, 0, 1, 2};
+        Rotated_index index = new Rotated_index(nums);
+        System.out.println("Rotation offset: " + index.offset());
+
+        int target = 0;
+        int result = index.indexOf(target);
+        if (result != -1) {
+            System.out.println("Element found at index: " + result);
+        } else {
+            System.out.println("Element not found");
+        }
+        System.out.println("Same as Search_in_rotated_array: "
+                + (result == Search_in_rotated_array.search(nums, target)));
+        System.out.println("Values between 1 and 5: " + java.util.Arrays.toString(index.range(1, 5)));
+
+        // Every element moves two slots to the right: {1, 2, 4, 5, 6, 7, 0}
+        int[] shifted = {1, 2, 4, 5, 6, 7, 0};
+        System.arraycopy(shifted, 0, nums, 0, nums.length);
+        index.rotated(2);
+        System.out.println("After re-rotation, offset: " + index.offset() + ", index of 6: " + index.indexOf(6));
+    }
+}
@@ -0,0 +1,295 @@
+package Searching_and_sorting;
+
+// TimSort-style hybrid of Insertion_sort and Merge_sort for int[].
+// Natural ascending/descending runs are found first, short runs are padded out with binary
+// insertion sort, and runs are merged with galloping so already ordered data costs ~O(n).
+public class Adaptive_sort {
+
+    static final int MIN_MERGE = 32;   // Arrays shorter than this are just insertion sorted
+    static final int MIN_GALLOP = 7;   // Consecutive wins by one side before switching to galloping
+
+    public static void adaptiveSort(int[] arr) {
+        adaptiveSort(arr, 0, arr.length - 1);
+    }
+
+    public static void adaptiveSort(int[] arr, int start, int end) {
+        int n = end - start + 1;
+        if (n < 2) {
+            return;
+        }
+        if (n < MIN_MERGE) {
+            int runLen = countRunAndMakeAscending(arr, start, end);
+            binaryInsertionSort(arr, start, end, start + runLen);
+            return;
+        }
+
+        Merger merger = new Merger(arr);
+        int minRun = minRunLength(n);
+        int lo = start;
+        int remaining = n;
+        do {
+            int runLen = countRunAndMakeAscending(arr, lo, end);
+            // Extend short runs to minRun with binary insertion sort
+            if (runLen < minRun) {
+                int force = Math.min(remaining, minRun);
+                binaryInsertionSort(arr, lo, lo + force - 1, lo + runLen);
+                runLen = force;
+            }
+            merger.pushRun(lo, runLen);
+            merger.mergeCollapse();
+            lo += runLen;
+            remaining -= runLen;
+        } while (remaining != 0);
+        merger.mergeForceCollapse();
+    }
+
+    // Picks minRun in [16, 32] so n / minRun is a power of two or slightly less
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    // Length of the run starting at lo; a strictly descending run is reversed in place.
+    // Strict, so equal elements never get reordered and the sort stays stable.
+    static int countRunAndMakeAscending(int[] arr, int lo, int end) {
+        int runHi = lo + 1;
+        if (runHi > end) {
+            return 1;
+        }
+        if (arr[runHi++] < arr[lo]) {
+            while (runHi <= end && arr[runHi] < arr[runHi - 1]) {
+                runHi++;
+            }
+            reverse(arr, lo, runHi - 1);
+        } else {
+            while (runHi <= end && arr[runHi] >= arr[runHi - 1]) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    static void reverse(int[] arr, int lo, int hi) {
+        while (lo < hi) {
+            int temp = arr[lo];
+            arr[lo++] = arr[hi];
+            arr[hi--] = temp;
+        }
+    }
+
+    // Insertion_sort on arr[lo..hi], assuming arr[lo..sorted-1] is already in order,
+    // with the insert position found by binary search instead of a linear walk
+    static void binaryInsertionSort(int[] arr, int lo, int hi, int sorted) {
+        for (int i = Math.max(sorted, lo + 1); i <= hi; i++) {
+            int curr = arr[i];
+            int left = lo, right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (curr < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;   // Equal keys go after existing ones
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = curr;
+        }
+    }
+
+    // First index in arr[base..end) whose value is > key
+    static int gallopRight(int key, int[] arr, int base, int end) {
+        int lo = base, hi = base, gap = 1;
+        while (hi < end && arr[hi] <= key) {
+            lo = hi + 1;
+            if (gap > end - base) {
+                hi = end;
+                break;
+            }
+            hi = base + gap;
+            gap = gap * 2 + 1;
+        }
+        hi = Math.min(hi, end);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First index in arr[base..end) whose value is >= key
+    static int gallopLeft(int key, int[] arr, int base, int end) {
+        int lo = base, hi = base, gap = 1;
+        while (hi < end && arr[hi] < key) {
+            lo = hi + 1;
+            if (gap > end - base) {
+                hi = end;
+                break;
+            }
+            hi = base + gap;
+            gap = gap * 2 + 1;
+        }
+        hi = Math.min(hi, end);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Pending runs plus the one scratch buffer shared by every merge
+    static class Merger {
+        final int[] arr;
+        int[] tmp = new int[256];
+        final int[] runBase = new int[49];   // Run lengths grow at least like Fibonacci, 49 covers 2^31
+        final int[] runLen = new int[49];
+        int stackSize;
+
+        Merger(int[] arr) {
+            this.arr = arr;
+        }
+
+        void pushRun(int base, int len) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = len;
+            stackSize++;
+        }
+
+        // Keeps runLen[i-2] > runLen[i-1] + runLen[i] and runLen[i-1] > runLen[i]
+        // down the whole stack, so merges stay balanced
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if ((n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1])
+                        || (n > 1 && runLen[n - 2] <= runLen[n - 1] + runLen[n])) {
+                    if (runLen[n - 1] < runLen[n + 1]) {
+                        n--;
+                    }
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        // Merges run i with run i + 1
+        void mergeAt(int i) {
+            int base1 = runBase[i], len1 = runLen[i];
+            int base2 = runBase[i + 1], len2 = runLen[i + 1];
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+            merge(base1, base2 - 1, base2 + len2 - 1);
+        }
+
+        // Merges arr[start..mid] and arr[mid+1..end], both sorted, with the same
+        // left-wins-ties rule as Merge_sort.merge
+        void merge(int start, int mid, int end) {
+            // Left elements <= the first right element and right elements >= the last
+            // left element are already in their final place
+            start = gallopRight(arr[mid + 1], arr, start, mid + 1);
+            if (start > mid) {
+                return;
+            }
+            end = gallopLeft(arr[mid], arr, mid + 1, end + 1) - 1;
+
+            int len1 = mid - start + 1;
+            if (tmp.length < len1) {
+                tmp = new int[Math.max(len1, Math.min(arr.length, tmp.length * 2))];
+            }
+            System.arraycopy(arr, start, tmp, 0, len1);
+
+            int i = 0, j = mid + 1, k = start;
+            while (i < len1 && j <= end) {
+                int leftWins = 0, rightWins = 0;
+                // One element at a time until one side keeps winning
+                while (i < len1 && j <= end && leftWins < MIN_GALLOP && rightWins < MIN_GALLOP) {
+                    if (tmp[i] <= arr[j]) {
+                        arr[k++] = tmp[i++];
+                        leftWins++;
+                        rightWins = 0;
+                    } else {
+                        arr[k++] = arr[j++];
+                        rightWins++;
+                        leftWins = 0;
+                    }
+                }
+                if (i >= len1 || j > end) {
+                    break;
+                }
+                // Galloping: move a whole block from the winning side at once
+                if (leftWins >= MIN_GALLOP) {
+                    int stop = gallopRight(arr[j], tmp, i, len1);
+                    System.arraycopy(tmp, i, arr, k, stop - i);
+                    k += stop - i;
+                    i = stop;
+                } else {
+                    int stop = gallopLeft(tmp[i], arr, j, end + 1);
+                    System.arraycopy(arr, j, arr, k, stop - j);
+                    k += stop - j;
+                    j = stop;
+                }
+            }
+            // Leftover right elements are already in place, leftover left ones are copied back
+            System.arraycopy(tmp, i, arr, k, len1 - i);
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, 27, 43, 3, 9, 82, 10};
+        System.out.println("Original array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        adaptiveSort(arr);
+
+        System.out.println("Sorted array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        // Append-mostly log: sorted with a few late arrivals sprinkled in
+        int n = 5_000_000;
+        int[] log = new int[n];
+        java.util.Random rnd = new java.util.Random(11);
+        for (int i = 0; i < n; i++) {
+            log[i] = (i % 1000 == 0) ? rnd.nextInt(n) : i;
+        }
+        int[] copy = log.clone();
+        long t0 = System.nanoTime();
+        adaptiveSort(log);
+        long t1 = System.nanoTime();
+        Merge_sort.mergeSort(copy, 0, n - 1);
+        long t2 = System.nanoTime();
+        System.out.println("Nearly sorted input, adaptiveSort: " + (t1 - t0) / 1_000_000 + " ms, Merge_sort: "
+                + (t2 - t1) / 1_000_000 + " ms, same result: " + java.util.Arrays.equals(log, copy));
+    }
+}
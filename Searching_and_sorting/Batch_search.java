@@ -0,0 +1,70 @@
+package Searching_and_sorting;
+
+// Resolves many keys against one sorted array at once. The queries are sorted (keeping their
+// original slots), then a single cursor moves forward through the data, galloping from the
+// previous answer to the next one. Nearby queries cost a few probes instead of a full
+// Binary_search descent, and the data is read front to back instead of at random.
+public class Batch_search {
+
+    // results[i] = index of the first element equal to queries[i], or -1
+    public static int[] searchAll(int[] sorted, int[] queries) {
+        int[] results = new int[queries.length];
+        searchAll(sorted, queries, results);
+        return results;
+    }
+
+    public static void searchAll(int[] sorted, int[] queries, int[] results) {
+        int[] order = Key_value_sort.argsort(queries);
+        int n = sorted.length;
+        int pos = 0;
+        for (int q : order) {
+            int key = queries[q];
+            // Queries come in ascending order, so the answer is never left of the last one
+            pos = Adaptive_sort.gallopLeft(key, sorted, pos, n);
+            results[q] = pos < n && sorted[pos] == key ? pos : -1;
+        }
+    }
+
+    // results[i] = number of elements < queries[i], i.e. the lower bound of each query
+    public static int[] lowerBoundAll(int[] sorted, int[] queries) {
+        int[] results = new int[queries.length];
+        int[] order = Key_value_sort.argsort(queries);
+        int pos = 0;
+        for (int q : order) {
+            pos = Adaptive_sort.gallopLeft(queries[q], sorted, pos, sorted.length);
+            results[q] = pos;
+        }
+        return results;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int num[] = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        int queries[] = {7, 10, 1, 5, 5, 0};
+        int[] results = searchAll(num, queries);
+        for (int i = 0; i < queries.length; i++) {
+            System.out.println("Key " + queries[i] + " is at index : " + results[i]);
+        }
+
+        int n = 20_000_000;
+        int[] table = new int[n];
+        for (int i = 0; i < n; i++) {
+            table[i] = 3 * i;
+        }
+        java.util.Random rnd = new java.util.Random(4);
+        int[] keys = new int[1_000_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rnd.nextInt(3 * n);
+        }
+        long t0 = System.nanoTime();
+        int[] one = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            one[i] = Binary_search.binary_search(table, keys[i]);
+        }
+        long t1 = System.nanoTime();
+        int[] batch = searchAll(table, keys);
+        long t2 = System.nanoTime();
+        System.out.println("1M lookups, Binary_search: " + (t1 - t0) / 1_000_000 + " ms, searchAll: "
+                + (t2 - t1) / 1_000_000 + " ms, same result: " + java.util.Arrays.equals(one, batch));
+    }
+}
@@ -2,17 +2,27 @@ package Searching_and_sorting;
 
 public class Bubble_sort {
     public static void bubbleSort(int[] arr) {
+        bubbleSort(arr, Sort_metrics.NONE);
+    }
+
+    // Reports comparisons, swaps and total time to m
+    public static void bubbleSort(int[] arr, Sort_metrics.Listener m) {
+        boolean timed = m.enabled();
+        long t0 = timed ? System.nanoTime() : 0;
+        long compares = 0, swaps = 0;
         int n = arr.length;
         boolean swapped;
-        
+
         for (int i = 0; i < n - 1; i++) {
             swapped = false;
             for (int j = 0; j < n - i - 1; j++) {
+                compares++;
                 if (arr[j] > arr[j + 1]) {
                     // Swap arr[j] and arr[j + 1]
                     int temp = arr[j];
                     arr[j] = arr[j + 1];
                     arr[j + 1] = temp;
+                    swaps++;
                     swapped = true;
                 }
             }
@@ -21,7 +31,13 @@ public class Bubble_sort {
                 break;
             }
         }
+        m.onCompare(compares);
+        m.onSwap(swaps);
+        if (timed) {
+            m.onPhase(Sort_metrics.Phase.SORT, System.nanoTime() - t0);
+        }
     }
+
     public static void main(String[] args) {
         int[] arr = {64, 34, 25, 12, 22, 11, 90};
         System.out.println("Original array:");
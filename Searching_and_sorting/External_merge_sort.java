@@ -0,0 +1,317 @@
+package Searching_and_sorting;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sorts binary files of big-endian int or long keys that do not fit in the heap.
+// Phase 1 sorts memory-sized chunks into run files, phase 2 merges the runs k at a time.
+public class External_merge_sort {
+
+    public static final long DEFAULT_MEMORY = 256L << 20;  // 256 MB working set
+    public static final int DEFAULT_FAN_IN = 256;           // Runs merged per pass
+    static final int MIN_WINDOW = 64 << 10;                 // Never read or write in pieces below 64 KB
+
+    public static void sortIntFile(Path in, Path out) throws IOException {
+        sortFile(in, out, Integer.BYTES, DEFAULT_MEMORY, DEFAULT_FAN_IN, out.toAbsolutePath().getParent());
+    }
+
+    public static void sortLongFile(Path in, Path out) throws IOException {
+        sortFile(in, out, Long.BYTES, DEFAULT_MEMORY, DEFAULT_FAN_IN, out.toAbsolutePath().getParent());
+    }
+
+    // width is 4 for int keys and 8 for long keys; memory bounds the buffers this sort allocates
+    // together (never below one MIN_WINDOW I/O buffer per open file)
+    public static void sortFile(Path in, Path out, int width, long memory, int fanIn, Path tmpDir) throws IOException {
+        if (width != Integer.BYTES && width != Long.BYTES) {
+            throw new IllegalArgumentException("width must be 4 or 8");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2");
+        }
+        List<Path> runs = createRuns(in, width, memory, tmpDir);
+        try {
+            // Merge passes until a single run is left
+            while (runs.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+                try {
+                    for (int i = 0; i < runs.size(); i += fanIn) {
+                        List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                        Path merged = Files.createTempFile(tmpDir, "run", ".bin");
+                        next.add(merged);
+                        mergeRuns(group, merged, width, memory);
+                        deleteAll(group);
+                    }
+                } catch (Throwable e) {
+                    deleteAll(next); // The finally below only knows about the previous pass
+                    throw e;
+                }
+                runs = next;
+            }
+            mergeRuns(runs, out, width, memory);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    // Phase 1: read a chunk, sort it with Radix_sort, write it out as one run file
+    static List<Path> createRuns(Path in, int width, long memory, Path tmpDir) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        // The I/O buffer comes off the top; half of the rest holds the chunk, the other half
+        // is the radix sort's scratch array
+        int ioBytes = windowBytes(memory, 16, width);
+        int chunk = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (memory - ioBytes) / 2 / width));
+        try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+            if (ch.size() % width != 0) {
+                throw new IOException(in + " is " + ch.size() + " bytes, not a whole number of " + width + "-byte keys");
+            }
+            long total = ch.size() / width;
+            int[] ints = width == Integer.BYTES ? new int[(int) Math.min(chunk, total)] : null;
+            long[] longs = width == Long.BYTES ? new long[(int) Math.min(chunk, total)] : null;
+            int[] intAux = ints != null ? new int[ints.length] : null;
+            long[] longAux = longs != null ? new long[longs.length] : null;
+            ByteBuffer io = ByteBuffer.allocateDirect(ioBytes);
+
+            long done = 0;
+            while (done < total) {
+                int n = (int) Math.min(chunk, total - done);
+                readFully(ch, io, done * width, ints, longs, n);
+                // The short last chunk is sorted in place as a prefix, no copy
+                if (ints != null) {
+                    Radix_sort.radixSort(ints, n, intAux, 1);
+                } else {
+                    Radix_sort.radixSort(longs, n, longAux, 1);
+                }
+                Path run = Files.createTempFile(tmpDir, "run", ".bin");
+                runs.add(run);
+                try (FileChannel w = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    writeFully(w, io, ints, longs, n);
+                }
+                done += n;
+            }
+        } catch (Throwable e) {
+            deleteAll(runs);
+            throw e;
+        }
+        return runs;
+    }
+
+    // Phase 2: k-way merge. Ties go to the lower run index, so like Merge_sort.merge
+    // equal keys keep the order of the runs (and therefore of the input) they came from.
+    static void mergeRuns(List<Path> runs, Path out, int width, long memory) throws IOException {
+        int k = runs.size();
+        int window = windowBytes(memory, k + 1, width);
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel w = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r), width, window);
+            }
+            ByteBuffer outBuf = ByteBuffer.allocateDirect(window);
+
+            // Binary min-heap of run indices, ordered by (current key, run index)
+            int[] heap = new int[k];
+            int size = 0;
+            for (int r = 0; r < k; r++) {
+                if (readers[r].hasNext()) {
+                    heap[size++] = r;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, size, readers);
+            }
+            while (size > 0) {
+                RunReader top = readers[heap[0]];
+                if (!outBuf.hasRemaining()) {
+                    drain(w, outBuf);
+                }
+                if (width == Integer.BYTES) {
+                    outBuf.putInt((int) top.current);
+                } else {
+                    outBuf.putLong(top.current);
+                }
+                top.advance();
+                if (!top.hasNext()) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, 0, size, readers);
+            }
+            drain(w, outBuf);
+        } finally {
+            for (RunReader r : readers) {
+                if (r != null) {
+                    r.close();
+                }
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int i, int size, RunReader[] readers) {
+        int val = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(heap[child + 1], heap[child], readers)) {
+                child++;
+            }
+            if (!less(heap[child], val, readers)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = val;
+    }
+
+    private static boolean less(int a, int b, RunReader[] readers) {
+        long x = readers[a].current, y = readers[b].current;
+        return x < y || (x == y && a < b);
+    }
+
+    // Streams one run file through a sliding read-only memory-mapped window
+    static class RunReader {
+        final FileChannel ch;
+        final int width;
+        final int window;
+        final long length;
+        long mapped;           // File offset just past the current window
+        MappedByteBuffer buf;
+        long current;
+        boolean has;
+
+        RunReader(Path run, int width, int window) throws IOException {
+            this.ch = FileChannel.open(run, StandardOpenOption.READ);
+            this.width = width;
+            this.window = window;
+            this.length = ch.size();
+            advance();
+        }
+
+        boolean hasNext() {
+            return has;
+        }
+
+        void advance() throws IOException {
+            if (buf == null || !buf.hasRemaining()) {
+                if (mapped >= length) {
+                    has = false;
+                    return;
+                }
+                long len = Math.min(window, length - mapped);
+                buf = ch.map(FileChannel.MapMode.READ_ONLY, mapped, len);
+                mapped += len;
+            }
+            current = width == Integer.BYTES ? buf.getInt() : buf.getLong();
+            has = true;
+        }
+
+        void close() throws IOException {
+            buf = null;
+            ch.close();
+        }
+    }
+
+    // Splits the budget across the given number of buffers, rounded down to whole keys
+    static int windowBytes(long memory, int buffers, int width) {
+        long bytes = Math.max(MIN_WINDOW, Math.min(Integer.MAX_VALUE / 2, memory / buffers));
+        return (int) (bytes - bytes % width);
+    }
+
+    private static void readFully(FileChannel ch, ByteBuffer io, long pos, int[] ints, long[] longs, int n)
+            throws IOException {
+        int width = ints != null ? Integer.BYTES : Long.BYTES;
+        int i = 0;
+        while (i < n) {
+            io.clear();
+            io.limit((int) Math.min(io.capacity(), (long) (n - i) * width));
+            while (io.hasRemaining()) {
+                int r = ch.read(io, pos);
+                if (r < 0) {
+                    throw new IOException("Unexpected end of file at offset " + pos);
+                }
+                pos += r;
+            }
+            io.flip();
+            if (ints != null) {
+                while (io.hasRemaining()) {
+                    ints[i++] = io.getInt();
+                }
+            } else {
+                while (io.hasRemaining()) {
+                    longs[i++] = io.getLong();
+                }
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel w, ByteBuffer io, int[] ints, long[] longs, int n) throws IOException {
+        io.clear();
+        for (int i = 0; i < n; i++) {
+            if (io.remaining() < Long.BYTES) {
+                drain(w, io);
+            }
+            if (ints != null) {
+                io.putInt(ints[i]);
+            } else {
+                io.putLong(longs[i]);
+            }
+        }
+        drain(w, io);
+    }
+
+    private static void drain(FileChannel w, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            w.write(buf);
+        }
+        buf.clear();
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path p : paths) {
+            Files.deleteIfExists(p);
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) throws IOException {
+        int n = 5_000_000;
+        Path dir = Files.createTempDirectory("extsort");
+        Path in = dir.resolve("input.bin");
+        Path out = dir.resolve("sorted.bin");
+
+        int[] data = new int[n];
+        java.util.Random rnd = new java.util.Random(3);
+        ByteBuffer bb = ByteBuffer.allocate(n * Integer.BYTES);
+        for (int i = 0; i < n; i++) {
+            data[i] = rnd.nextInt();
+            bb.putInt(data[i]);
+        }
+        Files.write(in, bb.array());
+
+        // 4 MB of working memory for 20 MB of data forces several runs and two merge passes
+        long t0 = System.nanoTime();
+        sortFile(in, out, Integer.BYTES, 4L << 20, 4, dir);
+        long t1 = System.nanoTime();
+
+        java.util.Arrays.sort(data);
+        ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(out));
+        boolean correct = result.remaining() == n * Integer.BYTES;
+        for (int i = 0; correct && i < n; i++) {
+            correct = result.getInt() == data[i];
+        }
+        System.out.println("Sorted " + n + " ints on disk in " + (t1 - t0) / 1_000_000 + " ms, correct: " + correct);
+
+        Files.delete(in);
+        Files.delete(out);
+        Files.delete(dir);
+    }
+}
@@ -3,17 +3,36 @@ package Searching_and_sorting;
 public class Insertion_sort {
     
     public static void insertionSort(int[] arr) {
+        insertionSort(arr, Sort_metrics.NONE);
+    }
+
+    // Reports comparisons, element moves and total time to m
+    public static void insertionSort(int[] arr, Sort_metrics.Listener m) {
+        boolean timed = m.enabled();
+        long t0 = timed ? System.nanoTime() : 0;
+        long compares = 0, moves = 0;
         int n = arr.length;
         for (int i = 1; i < n; i++) {
             int curr = arr[i];
             int prev = i - 1;
             // Move elements of arr[0..i-1], that are greater than key,
             // to one position ahead of their current position
-            while (prev >= 0 && arr[prev] > curr) {
+            while (prev >= 0) {
+                compares++;
+                if (arr[prev] <= curr) {
+                    break;
+                }
                 arr[prev + 1] = arr[prev];
+                moves++;
                 prev--;
             }
             arr[prev + 1] = curr;
+            moves++;
+        }
+        m.onCompare(compares);
+        m.onMove(moves);
+        if (timed) {
+            m.onPhase(Sort_metrics.Phase.SORT, System.nanoTime() - t0);
         }
     }
 
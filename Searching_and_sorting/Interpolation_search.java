@@ -0,0 +1,191 @@
+package Searching_and_sorting;
+
+// Two alternatives to Binary_search, each reporting how many elements it looked at.
+//  - Interpolation search guesses the position from the key's value, O(log log n) probes on
+//    uniformly spread keys. Every guess that fails to halve the range is followed by a plain
+//    binary step, so skewed data still costs at most about 2 * log2(n) probes.
+//  - Exponential search doubles its step until it passes the key and then binary searches
+//    that last gap. It never needs the length, so it works on append-only streams.
+public class Interpolation_search {
+
+    public enum Mode {
+        BINARY,
+        INTERPOLATION
+    }
+
+    // Running probe totals so callers can compare modes on their own data
+    public static class Probe_count {
+        public long probes;
+        public long searches;
+
+        public double average() {
+            return searches == 0 ? 0 : (double) probes / searches;
+        }
+
+        public void reset() {
+            probes = searches = 0;
+        }
+
+        @Override
+        public String toString() {
+            return searches + " searches, " + probes + " probes, " + String.format("%.2f", average()) + " per search";
+        }
+    }
+
+    // A sorted sequence whose length may not be known; exists(i) is false past the end
+    public interface Sorted_source {
+        boolean exists(long index);
+
+        int get(long index);
+    }
+
+    public static int interpolationSearch(int[] arr, int key) {
+        return interpolationSearch(arr, key, new Probe_count());
+    }
+
+    public static int interpolationSearch(int[] arr, int key, Probe_count count) {
+        count.searches++;
+        int lo = 0, hi = arr.length - 1;
+        boolean bisectNext = false;
+        while (lo <= hi) {
+            int pos;
+            if (bisectNext || arr[hi] == arr[lo]) {
+                pos = lo + (hi - lo) / 2;
+            } else {
+                if (key < arr[lo] || key > arr[hi]) {
+                    return -1;
+                }
+                // Linear estimate of where key sits between arr[lo] and arr[hi]
+                pos = lo + (int) ((double) ((long) key - arr[lo]) * (hi - lo) / ((long) arr[hi] - arr[lo]));
+            }
+            int oldRange = hi - lo;
+            count.probes++;
+            if (arr[pos] == key) {
+                return pos;
+            }
+            if (arr[pos] < key) {
+                lo = pos + 1;
+            } else {
+                hi = pos - 1;
+            }
+            // The guess did not even halve the range: the data is skewed here, so bisect once
+            bisectNext = !bisectNext && hi - lo > oldRange / 2;
+        }
+        return -1;
+    }
+
+    // Binary_search.binary_search with probe counting, for comparison
+    public static int binarySearch(int[] arr, int key, Probe_count count) {
+        count.searches++;
+        int lo = 0, hi = arr.length - 1;
+        while (lo <= hi) {
+            int mid = lo + (hi - lo) / 2;
+            count.probes++;
+            if (arr[mid] == key) {
+                return mid;
+            }
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    public static long exponentialSearch(Sorted_source src, int key) {
+        return exponentialSearch(src, key, new Probe_count());
+    }
+
+    // Index of an element equal to key, or -1
+    public static long exponentialSearch(Sorted_source src, int key, Probe_count count) {
+        count.searches++;
+        if (!src.exists(0)) {
+            return -1;
+        }
+        count.probes++;
+        if (src.get(0) >= key) {
+            return src.get(0) == key ? 0 : -1;
+        }
+        // Invariant: get(lo) < key; double until hi is past the end or get(hi) >= key
+        long lo = 0, hi = 1;
+        while (true) {
+            count.probes++;
+            if (!src.exists(hi) || src.get(hi) >= key) {
+                break;
+            }
+            lo = hi;
+            hi *= 2;
+        }
+        // Binary search (lo, hi], treating positions past the end as +infinity
+        while (hi - lo > 1) {
+            long mid = lo + (hi - lo) / 2;
+            count.probes++;
+            if (src.exists(mid) && src.get(mid) < key) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return src.exists(hi) && src.get(hi) == key ? hi : -1;
+    }
+
+    public static Sorted_source of(int[] arr) {
+        return new Sorted_source() {
+            @Override
+            public boolean exists(long index) {
+                return index < arr.length;
+            }
+
+            @Override
+            public int get(long index) {
+                return arr[(int) index];
+            }
+        };
+    }
+
+    // Runs both modes on a sample of keys and returns the one with fewer probes
+    public static Mode chooseMode(int[] arr, int[] sampleKeys) {
+        Probe_count binary = new Probe_count();
+        Probe_count interpolation = new Probe_count();
+        for (int key : sampleKeys) {
+            binarySearch(arr, key, binary);
+            interpolationSearch(arr, key, interpolation);
+        }
+        return interpolation.probes < binary.probes ? Mode.INTERPOLATION : Mode.BINARY;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int n = 10_000_000;
+        int[] uniform = new int[n];
+        int[] skewed = new int[n];
+        for (int i = 0; i < n; i++) {
+            uniform[i] = 3 * i;
+            skewed[i] = (int) ((long) i * i / n);
+        }
+        java.util.Random rnd = new java.util.Random(2);
+        int[][] tables = {uniform, skewed};
+        String[] names = {"uniform", "skewed"};
+        for (int t = 0; t < tables.length; t++) {
+            int[] arr = tables[t];
+            Probe_count binary = new Probe_count();
+            Probe_count interpolation = new Probe_count();
+            boolean agree = true;
+            for (int q = 0; q < 100_000; q++) {
+                int key = arr[rnd.nextInt(n)];
+                int a = binarySearch(arr, key, binary);
+                int b = interpolationSearch(arr, key, interpolation);
+                agree &= arr[a] == arr[b];
+            }
+            System.out.println(names[t] + " binary:        " + binary);
+            System.out.println(names[t] + " interpolation: " + interpolation + ", same answers: " + agree);
+        }
+
+        // A stream whose end we pretend not to know
+        Probe_count exp = new Probe_count();
+        long index = exponentialSearch(of(uniform), 3 * 1234, exp);
+        System.out.println("Exponential search found " + (3 * 1234) + " at " + index + " using " + exp.probes + " probes");
+        System.out.println("Suggested mode for uniform data: " + chooseMode(uniform, new int[] {3, 300, 30000, 3000000}));
+    }
+}
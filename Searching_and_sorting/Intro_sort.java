@@ -0,0 +1,168 @@
+package Searching_and_sorting;
+
+public class Intro_sort {
+
+    static final int INSERTION_CUTOFF = 16; // Small ranges are finished with insertion sort
+    static final int NINTHER_CUTOFF = 128;  // Above this size the pivot is a median of medians of three
+
+    public static void introSort(int[] arr) {
+        introSort(arr, 0, arr.length - 1);
+    }
+
+    public static void introSort(int[] arr, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        // Past 2 * log2(n) levels quicksort is going quadratic, so switch to heapsort
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(end - start + 1));
+        sort(arr, start, end, depthLimit);
+    }
+
+    private static void sort(int[] arr, int start, int end, int depthLimit) {
+        while (end - start >= INSERTION_CUTOFF) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, start, end);
+                return;
+            }
+            int pivot = arr[choosePivot(arr, start, end)];
+
+            // Three-way partition: arr[start..lt-1] < pivot, arr[lt..gt] == pivot, arr[gt+1..end] > pivot
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                if (arr[i] < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (arr[i] > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse on the smaller side and loop on the larger one, so the stack stays O(log n)
+            if (lt - start < end - gt) {
+                sort(arr, start, lt - 1, depthLimit);
+                start = gt + 1;
+            } else {
+                sort(arr, gt + 1, end, depthLimit);
+                end = lt - 1;
+            }
+        }
+        insertionSort(arr, start, end);
+    }
+
+    static int choosePivot(int[] arr, int start, int end) {
+        int mid = start + (end - start) / 2;
+        if (end - start < NINTHER_CUTOFF) {
+            return medianOf3(arr, start, mid, end);
+        }
+        // Tukey's ninther: median of three medians of three, spread across the range
+        int step = (end - start) / 8;
+        int a = medianOf3(arr, start, start + step, start + 2 * step);
+        int b = medianOf3(arr, mid - step, mid, mid + step);
+        int c = medianOf3(arr, end - 2 * step, end - step, end);
+        return medianOf3(arr, a, b, c);
+    }
+
+    static int medianOf3(int[] arr, int i, int j, int k) {
+        if (arr[i] < arr[j]) {
+            if (arr[j] < arr[k]) {
+                return j;
+            }
+            return arr[i] < arr[k] ? k : i;
+        }
+        if (arr[i] < arr[k]) {
+            return i;
+        }
+        return arr[j] < arr[k] ? k : j;
+    }
+
+    static void heapSort(int[] arr, int start, int end) {
+        int n = end - start + 1;
+        // Build a max heap
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, start, i, n);
+        }
+        // Move the current max to the back and shrink the heap
+        for (int last = n - 1; last > 0; last--) {
+            swap(arr, start, start + last);
+            siftDown(arr, start, 0, last);
+        }
+    }
+
+    private static void siftDown(int[] arr, int base, int i, int n) {
+        int val = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= val) {
+                break;
+            }
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = val;
+    }
+
+    static void insertionSort(int[] arr, int start, int end) {
+        for (int i = start + 1; i <= end; i++) {
+            int curr = arr[i];
+            int prev = i - 1;
+            while (prev >= start && arr[prev] > curr) {
+                arr[prev + 1] = arr[prev];
+                prev--;
+            }
+            arr[prev + 1] = curr;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, 27, 43, 3, 9, 82, 10};
+        System.out.println("Original array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        introSort(arr);
+
+        System.out.println("Sorted array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        // Inputs that push Quick_sort.quickSort into O(n^2) and a StackOverflowError
+        int n = 1_000_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        int[] fewUnique = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+            fewUnique[i] = i % 4;
+        }
+        int[][] inputs = {sorted, reversed, fewUnique};
+        String[] names = {"sorted", "reversed", "few unique"};
+        for (int t = 0; t < inputs.length; t++) {
+            int[] expected = inputs[t].clone();
+            java.util.Arrays.sort(expected);
+            long t0 = System.nanoTime();
+            introSort(inputs[t]);
+            long t1 = System.nanoTime();
+            System.out.println(names[t] + ": " + (t1 - t0) / 1_000_000 + " ms, correct: "
+                    + java.util.Arrays.equals(inputs[t], expected));
+        }
+    }
+}
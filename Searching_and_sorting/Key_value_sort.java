@@ -0,0 +1,272 @@
+package Searching_and_sorting;
+
+// Sorts columnar data held in parallel primitive arrays without boxing anything.
+// Every key type is mapped onto an order-preserving long, sorted together with an int[]
+// of original positions by a stable merge sort, and payload columns are then permuted.
+public class Key_value_sort {
+
+    static final int INSERTION_CUTOFF = 32;
+
+    // Indices that would sort keys, ties keep their original order; keys are left untouched
+    public static int[] argsort(int[] keys) {
+        long[] enc = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            enc[i] = keys[i];
+        }
+        return sortEncoded(enc);
+    }
+
+    public static int[] argsort(long[] keys) {
+        return sortEncoded(keys.clone());
+    }
+
+    public static int[] argsort(float[] keys) {
+        long[] enc = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            enc[i] = encode(keys[i]);
+        }
+        return sortEncoded(enc);
+    }
+
+    public static int[] argsort(double[] keys) {
+        long[] enc = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            enc[i] = encode(keys[i]);
+        }
+        return sortEncoded(enc);
+    }
+
+    // Sorts keys in place and returns where each sorted key came from
+    public static int[] sortWithIndex(int[] keys) {
+        int[] perm = argsort(keys);
+        permute(keys, perm);
+        return perm;
+    }
+
+    public static int[] sortWithIndex(long[] keys) {
+        int[] perm = argsort(keys);
+        permute(keys, perm);
+        return perm;
+    }
+
+    public static int[] sortWithIndex(float[] keys) {
+        int[] perm = argsort(keys);
+        permute(keys, perm);
+        return perm;
+    }
+
+    public static int[] sortWithIndex(double[] keys) {
+        int[] perm = argsort(keys);
+        permute(keys, perm);
+        return perm;
+    }
+
+    // Sort keys and carry one payload column along. Lengths are checked before either array changes
+    public static void sort(int[] keys, int[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(int[] keys, long[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(int[] keys, double[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(long[] keys, int[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(long[] keys, long[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(long[] keys, double[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(float[] keys, int[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(float[] keys, long[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(float[] keys, double[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(double[] keys, int[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(double[] keys, long[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    public static void sort(double[] keys, double[] payload) {
+        checkLength(keys.length, payload.length);
+        permute(payload, sortWithIndex(keys));
+    }
+
+    // arr[i] = old arr[perm[i]] for every column that should follow the sort
+    public static void permute(int[] arr, int[] perm) {
+        checkLength(perm.length, arr.length);
+        int[] old = arr.clone();
+        for (int i = 0; i < perm.length; i++) {
+            arr[i] = old[perm[i]];
+        }
+    }
+
+    public static void permute(long[] arr, int[] perm) {
+        checkLength(perm.length, arr.length);
+        long[] old = arr.clone();
+        for (int i = 0; i < perm.length; i++) {
+            arr[i] = old[perm[i]];
+        }
+    }
+
+    public static void permute(float[] arr, int[] perm) {
+        checkLength(perm.length, arr.length);
+        float[] old = arr.clone();
+        for (int i = 0; i < perm.length; i++) {
+            arr[i] = old[perm[i]];
+        }
+    }
+
+    public static void permute(double[] arr, int[] perm) {
+        checkLength(perm.length, arr.length);
+        double[] old = arr.clone();
+        for (int i = 0; i < perm.length; i++) {
+            arr[i] = old[perm[i]];
+        }
+    }
+
+    static void checkLength(int keys, int payload) {
+        if (keys != payload) {
+            throw new IllegalArgumentException("payload length " + payload + " does not match " + keys + " keys");
+        }
+    }
+
+    // Flips the magnitude bits of negative numbers so signed long order matches Double.compare
+    // (-0.0 before 0.0, NaN last)
+    static long encode(double d) {
+        long bits = Double.doubleToLongBits(d);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static long encode(float f) {
+        int bits = Float.floatToIntBits(f);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    // Stable merge sort of enc[] carrying the original positions along; enc is consumed
+    static int[] sortEncoded(long[] enc) {
+        int n = enc.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+        }
+        if (n < 2) {
+            return idx;
+        }
+        // Same ping-pong scheme as Parallel_merge_sort: both copies start equal and swap roles per level
+        long[] encAux = enc.clone();
+        int[] idxAux = idx.clone();
+        sortInto(encAux, idxAux, enc, idx, 0, n - 1);
+        return idx;
+    }
+
+    private static void sortInto(long[] srcK, int[] srcV, long[] dstK, int[] dstV, int start, int end) {
+        if (end - start < INSERTION_CUTOFF) {
+            insertionSort(dstK, dstV, start, end);
+            return;
+        }
+        int mid = start + (end - start) / 2;
+        sortInto(dstK, dstV, srcK, srcV, start, mid);
+        sortInto(dstK, dstV, srcK, srcV, mid + 1, end);
+        if (srcK[mid] <= srcK[mid + 1]) {
+            System.arraycopy(srcK, start, dstK, start, end - start + 1);
+            System.arraycopy(srcV, start, dstV, start, end - start + 1);
+            return;
+        }
+        int i = start, j = mid + 1, k = start;
+        while (i <= mid && j <= end) {
+            if (srcK[i] <= srcK[j]) {
+                dstV[k] = srcV[i];
+                dstK[k++] = srcK[i++];
+            } else {
+                dstV[k] = srcV[j];
+                dstK[k++] = srcK[j++];
+            }
+        }
+        while (i <= mid) {
+            dstV[k] = srcV[i];
+            dstK[k++] = srcK[i++];
+        }
+        while (j <= end) {
+            dstV[k] = srcV[j];
+            dstK[k++] = srcK[j++];
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] vals, int start, int end) {
+        for (int i = start + 1; i <= end; i++) {
+            long curr = keys[i];
+            int currVal = vals[i];
+            int prev = i - 1;
+            while (prev >= start && keys[prev] > curr) {
+                keys[prev + 1] = keys[prev];
+                vals[prev + 1] = vals[prev];
+                prev--;
+            }
+            keys[prev + 1] = curr;
+            vals[prev + 1] = currVal;
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        // Student records stored as columns instead of objects
+        String[] names = {"Asha", "Ravi", "Meera", "Kiran", "Dev"};
+        float[] percentage = {78.5f, 91.0f, 66.25f, 91.0f, 84.0f};
+        int[] age = {19, 20, 18, 21, 19};
+
+        int[] order = argsort(percentage);
+        System.out.println("Students by percentage:");
+        for (int i : order) {
+            System.out.println(names[i] + " " + percentage[i] + " (age " + age[i] + ")");
+        }
+
+        // Sort the columns themselves, ages follow their percentage
+        sort(percentage, age);
+        System.out.println("Sorted percentage column:");
+        for (float p : percentage) {
+            System.out.print(p + " ");
+        }
+        System.out.println();
+        System.out.println("Age column in the same order:");
+        for (int a : age) {
+            System.out.print(a + " ");
+        }
+        System.out.println();
+
+        double[] d = {3.5, -0.0, Double.NaN, -2.25, 0.0, Double.NEGATIVE_INFINITY};
+        long[] ids = {1, 2, 3, 4, 5, 6};
+        sort(d, ids);
+        System.out.println("Doubles: " + java.util.Arrays.toString(d) + " ids: " + java.util.Arrays.toString(ids));
+    }
+}
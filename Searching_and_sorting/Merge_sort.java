@@ -3,20 +3,40 @@ package Searching_and_sorting;
 public class Merge_sort {
 
     public static void mergeSort(int[] arr, int start, int end) {
+        mergeSort(arr, start, end, Sort_metrics.NONE);
+    }
+
+    public static void merge(int[] arr, int start, int mid, int end) {
+        merge(arr, start, mid, end, Sort_metrics.NONE);
+    }
+
+    // Reports recursion depth and every merge to m
+    public static void mergeSort(int[] arr, int start, int end, Sort_metrics.Listener m) {
+        mergeSort(arr, start, end, m, 1);
+    }
+
+    private static void mergeSort(int[] arr, int start, int end, Sort_metrics.Listener m, int depth) {
+        m.onDepth(depth);
         if (start < end) {
             int mid = start + (end - start) / 2;
-            mergeSort(arr, start, mid);      // Sort left half
-            mergeSort(arr, mid + 1, end);    // Sort right half
-            merge(arr, start, mid, end);     // Merge sorted halves
+            mergeSort(arr, start, mid, m, depth + 1);      // Sort left half
+            mergeSort(arr, mid + 1, end, m, depth + 1);    // Sort right half
+            merge(arr, start, mid, end, m);                // Merge sorted halves
         }
     }
 
-    public static void merge(int[] arr, int start, int mid, int end) {
+    // Times the merge and copy-back phases separately
+    public static void merge(int[] arr, int start, int mid, int end, Sort_metrics.Listener m) {
+        boolean timed = m.enabled();
+        long t0 = timed ? System.nanoTime() : 0;
         int temp[] = new int[end - start + 1];  // Temporary array
+        m.onAllocate(Sort_metrics.intArrayBytes(temp.length));
+        long compares = 0;
         int i = start, j = mid + 1, k = 0;
 
         // Merge the two halves into temp[]
         while (i <= mid && j <= end) {
+            compares++;
             if (arr[i] <= arr[j]) {
                 temp[k++] = arr[i++];
             } else {
@@ -33,11 +53,18 @@ public class Merge_sort {
         while (j <= end) {
             temp[k++] = arr[j++];
         }
+        long t1 = timed ? System.nanoTime() : 0;
 
         // Copy temp[] back to arr[]
         for (i = start; i <= end; i++) {
             arr[i] = temp[i - start];
         }
+        m.onCompare(compares);
+        m.onMove(2L * temp.length); // Once into temp[], once back
+        if (timed) {
+            m.onPhase(Sort_metrics.Phase.MERGE, t1 - t0);
+            m.onPhase(Sort_metrics.Phase.COPY_BACK, System.nanoTime() - t1);
+        }
     }
 
     // Example usage
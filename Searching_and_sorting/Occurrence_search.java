@@ -0,0 +1,147 @@
+package Searching_and_sorting;
+
+// Occurrence queries without recursion.
+// Sorted input: lowerBound/upperBound are O(log n) binary searches, and everything else
+// (first/last index, equalRange, counts) is built from those two.
+// Unsorted input: firstOccurrence scans forward and lastOccurrence scans backward, each
+// stopping at the first hit, unlike Recursion.f_First_occurance / g_Last_occurance, which
+// use one stack frame per element and g_Last_occurance always reaches the end.
+public class Occurrence_search {
+
+    // First index whose value is >= key, or arr.length
+    public static int lowerBound(int[] arr, int key) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First index whose value is > key, or arr.length
+    public static int upperBound(int[] arr, int key) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public static int lowerBound(long[] arr, long key) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public static int upperBound(long[] arr, long key) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // {from, to}: arr[from..to-1] are exactly the elements equal to key (empty if from == to)
+    public static int[] equalRange(int[] arr, int key) {
+        return new int[] {lowerBound(arr, key), upperBound(arr, key)};
+    }
+
+    public static int[] equalRange(long[] arr, long key) {
+        return new int[] {lowerBound(arr, key), upperBound(arr, key)};
+    }
+
+    // Number of elements with from <= value <= to
+    public static int countInRange(int[] arr, int from, int to) {
+        return from > to ? 0 : upperBound(arr, to) - lowerBound(arr, from);
+    }
+
+    public static int countInRange(long[] arr, long from, long to) {
+        return from > to ? 0 : upperBound(arr, to) - lowerBound(arr, from);
+    }
+
+    // Sorted input: index of the first / last element equal to key, or -1
+    public static int firstIndex(int[] sorted, int key) {
+        int i = lowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    public static int lastIndex(int[] sorted, int key) {
+        int i = upperBound(sorted, key) - 1;
+        return i >= 0 && sorted[i] == key ? i : -1;
+    }
+
+    public static int firstIndex(long[] sorted, long key) {
+        int i = lowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    public static int lastIndex(long[] sorted, long key) {
+        int i = upperBound(sorted, key) - 1;
+        return i >= 0 && sorted[i] == key ? i : -1;
+    }
+
+    // Unsorted input: stops at the first match from the front
+    public static int firstOccurrence(int[] arr, int target) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Unsorted input: stops at the first match from the back
+    public static int lastOccurrence(int[] arr, int target) {
+        for (int i = arr.length - 1; i >= 0; i--) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int[] arr = {1, 2, 3, 4, 5, 3, 7, 8, 3};
+        System.out.println("First occurrence of 3 is at index: " + firstOccurrence(arr, 3));
+        System.out.println("Last occurrence of 3 is at index: " + lastOccurrence(arr, 3));
+
+        int[] sorted = arr.clone();
+        java.util.Arrays.sort(sorted);
+        System.out.print("Sorted: ");
+        for (int num : sorted) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+        int[] range = equalRange(sorted, 3);
+        System.out.println("3 occupies indices " + range[0] + " to " + (range[1] - 1)
+                + ", first: " + firstIndex(sorted, 3) + ", last: " + lastIndex(sorted, 3));
+        System.out.println("Values between 2 and 5: " + countInRange(sorted, 2, 5));
+
+        // Far beyond what the recursive versions survive
+        int[] big = new int[50_000_000];
+        big[big.length - 2] = 7;
+        System.out.println("Last 7 in 50M elements at: " + lastOccurrence(big, 7));
+    }
+}
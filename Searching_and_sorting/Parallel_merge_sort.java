@@ -0,0 +1,176 @@
+package Searching_and_sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class Parallel_merge_sort {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 13; // Below this size a range is sorted on one thread
+    static final int INSERTION_CUTOFF = 32;               // Below this size insertion sort beats merging
+
+    // One scratch buffer per calling thread, grown on demand and reused across calls. A call
+    // takes it out of the slot while sorting: a fork-join worker waiting in join can run
+    // another task that sorts on the same thread, and that call must not get the same buffer.
+    private static final ThreadLocal<int[]> SCRATCH = new ThreadLocal<>();
+
+    public static void mergeSort(int[] arr) {
+        mergeSort(arr, 0, arr.length - 1, DEFAULT_THRESHOLD);
+    }
+
+    public static void mergeSort(int[] arr, int start, int end, int threshold) {
+        int[] buf = takeBuffer(arr.length);
+        try {
+            mergeSort(arr, start, end, buf, threshold, ForkJoinPool.commonPool());
+        } finally {
+            returnBuffer(buf);
+        }
+    }
+
+    // aux must be at least as long as arr; its contents are overwritten
+    public static void mergeSort(int[] arr, int start, int end, int[] aux, int threshold, ForkJoinPool pool) {
+        if (start >= end) {
+            return;
+        }
+        if (aux.length < arr.length) {
+            throw new IllegalArgumentException("aux buffer is smaller than the array");
+        }
+        if (threshold < INSERTION_CUTOFF) {
+            threshold = INSERTION_CUTOFF;
+        }
+        // Both arrays start with the same data, so every level can merge from one into the other
+        // and the roles swap on the way down instead of copying back after each merge
+        System.arraycopy(arr, start, aux, start, end - start + 1);
+        pool.invoke(new SortTask(aux, arr, start, end, threshold));
+    }
+
+    // Drops the calling thread's pooled buffer, e.g. after a one-off huge sort
+    public static void releaseBuffer() {
+        SCRATCH.remove();
+    }
+
+    // The pooled buffer if it is free and big enough, otherwise a new one
+    private static int[] takeBuffer(int n) {
+        int[] buf = SCRATCH.get();
+        if (buf == null || buf.length < n) {
+            return new int[n];
+        }
+        SCRATCH.set(null); // Busy until returnBuffer
+        return buf;
+    }
+
+    // Puts buf back unless a bigger buffer went back first (from a nested call)
+    private static void returnBuffer(int[] buf) {
+        int[] pooled = SCRATCH.get();
+        if (pooled == null || pooled.length < buf.length) {
+            SCRATCH.set(buf);
+        }
+    }
+
+    // Sorts src[start..end] into dst[start..end]; src and dst hold the same values on entry
+    static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] src, dst;
+        final int start, end, threshold;
+
+        SortTask(int[] src, int[] dst, int start, int end, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start < threshold) {
+                sortInto(src, dst, start, end);
+                return;
+            }
+            int mid = start + (end - start) / 2;
+            invokeAll(new SortTask(dst, src, start, mid, threshold),     // Sort left half into src
+                      new SortTask(dst, src, mid + 1, end, threshold));  // Sort right half into src
+            mergeInto(src, dst, start, mid, end);                        // Merge sorted halves into dst
+        }
+    }
+
+    // Sequential version of SortTask used once a range is below the parallel threshold
+    static void sortInto(int[] src, int[] dst, int start, int end) {
+        if (end - start < INSERTION_CUTOFF) {
+            insertionSort(dst, start, end);
+            return;
+        }
+        int mid = start + (end - start) / 2;
+        sortInto(dst, src, start, mid);
+        sortInto(dst, src, mid + 1, end);
+        if (src[mid] <= src[mid + 1]) {
+            // Halves are already in order, just move them across
+            System.arraycopy(src, start, dst, start, end - start + 1);
+            return;
+        }
+        mergeInto(src, dst, start, mid, end);
+    }
+
+    // Same merge as Merge_sort.merge, but writes into dst instead of a fresh temp[]
+    static void mergeInto(int[] src, int[] dst, int start, int mid, int end) {
+        int i = start, j = mid + 1, k = start;
+        while (i <= mid && j <= end) {
+            if (src[i] <= src[j]) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+        while (i <= mid) {
+            dst[k++] = src[i++];
+        }
+        while (j <= end) {
+            dst[k++] = src[j++];
+        }
+    }
+
+    static void insertionSort(int[] arr, int start, int end) {
+        for (int i = start + 1; i <= end; i++) {
+            int curr = arr[i];
+            int prev = i - 1;
+            while (prev >= start && arr[prev] > curr) {
+                arr[prev + 1] = arr[prev];
+                prev--;
+            }
+            arr[prev + 1] = curr;
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, 27, 43, 3, 9, 82, 10};
+        System.out.println("Original array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        mergeSort(arr);
+
+        System.out.println("Sorted array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        // Larger run to exercise the fork-join path
+        int n = 2_000_000;
+        int[] big = new int[n];
+        java.util.Random rnd = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            big[i] = rnd.nextInt();
+        }
+        int[] expected = big.clone();
+        java.util.Arrays.sort(expected);
+        long t0 = System.nanoTime();
+        mergeSort(big);
+        long t1 = System.nanoTime();
+        System.out.println("Sorted " + n + " ints in " + (t1 - t0) / 1_000_000 + " ms, correct: "
+                + java.util.Arrays.equals(big, expected));
+    }
+}
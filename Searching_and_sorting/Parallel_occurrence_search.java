@@ -0,0 +1,149 @@
+package Searching_and_sorting;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fork-join versions of Occurrence_search.firstOccurrence / lastOccurrence for huge unsorted
+// arrays. Chunks are scanned in parallel and the best index found so far is shared through
+// an AtomicInteger; a chunk that lies entirely behind that index cannot improve it, so it
+// stops (or never starts). The answer is always the same as the sequential scan.
+public class Parallel_occurrence_search {
+
+    public static final int DEFAULT_CHUNK = 1 << 16; // Elements per leaf task
+    static final int CHECK_EVERY = 1 << 12;          // How often a running scan re-reads the shared best
+
+    public static int firstOccurrence(int[] arr, int target) {
+        return firstOccurrence(arr, target, DEFAULT_CHUNK, ForkJoinPool.commonPool());
+    }
+
+    public static int firstOccurrence(int[] arr, int target, int chunk, ForkJoinPool pool) {
+        if (arr.length <= chunk) {
+            return Occurrence_search.firstOccurrence(arr, target);
+        }
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new FirstTask(arr, target, 0, arr.length, Math.max(chunk, CHECK_EVERY), best));
+        int i = best.get();
+        return i == Integer.MAX_VALUE ? -1 : i;
+    }
+
+    public static int lastOccurrence(int[] arr, int target) {
+        return lastOccurrence(arr, target, DEFAULT_CHUNK, ForkJoinPool.commonPool());
+    }
+
+    public static int lastOccurrence(int[] arr, int target, int chunk, ForkJoinPool pool) {
+        if (arr.length <= chunk) {
+            return Occurrence_search.lastOccurrence(arr, target);
+        }
+        AtomicInteger best = new AtomicInteger(-1);
+        pool.invoke(new LastTask(arr, target, 0, arr.length, Math.max(chunk, CHECK_EVERY), best));
+        return best.get();
+    }
+
+    // Scans arr[from..to) forward; best only ever decreases
+    static class FirstTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int target, from, to, chunk;
+        final AtomicInteger best;
+
+        FirstTask(int[] arr, int target, int from, int to, int chunk, AtomicInteger best) {
+            this.arr = arr;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= best.get()) {
+                return; // Something earlier already matched
+            }
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new FirstTask(arr, target, from, mid, chunk, best),
+                          new FirstTask(arr, target, mid, to, chunk, best));
+                return;
+            }
+            for (int block = from; block < to; block += CHECK_EVERY) {
+                if (block >= best.get()) {
+                    return;
+                }
+                int end = Math.min(block + CHECK_EVERY, to);
+                for (int i = block; i < end; i++) {
+                    if (arr[i] == target) {
+                        best.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // Scans arr[from..to) backward; best only ever increases
+    static class LastTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int[] arr;
+        final int target, from, to, chunk;
+        final AtomicInteger best;
+
+        LastTask(int[] arr, int target, int from, int to, int chunk, AtomicInteger best) {
+            this.arr = arr;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - 1 <= best.get()) {
+                return; // Something later already matched
+            }
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LastTask(arr, target, mid, to, chunk, best),
+                          new LastTask(arr, target, from, mid, chunk, best));
+                return;
+            }
+            for (int block = to; block > from; block -= CHECK_EVERY) {
+                if (block - 1 <= best.get()) {
+                    return;
+                }
+                int start = Math.max(block - CHECK_EVERY, from);
+                for (int i = block - 1; i >= start; i--) {
+                    if (arr[i] == target) {
+                        best.accumulateAndGet(i, Math::max);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int n = 200_000_000;
+        int[] arr = new int[n];
+        arr[n / 3] = 7;
+        arr[n / 2] = 7;
+        arr[n - 10] = 7;
+
+        long t0 = System.nanoTime();
+        int first = firstOccurrence(arr, 7);
+        int last = lastOccurrence(arr, 7);
+        long t1 = System.nanoTime();
+        int seqFirst = Occurrence_search.firstOccurrence(arr, 7);
+        int seqLast = Occurrence_search.lastOccurrence(arr, 7);
+        long t2 = System.nanoTime();
+        System.out.println("First 7 at " + first + ", last 7 at " + last + " (parallel, "
+                + (t1 - t0) / 1_000_000 + " ms)");
+        System.out.println("Sequential: " + seqFirst + ", " + seqLast + " (" + (t2 - t1) / 1_000_000 + " ms)");
+        System.out.println("Missing key: " + firstOccurrence(arr, 42) + ", " + lastOccurrence(arr, 42));
+    }
+}
@@ -0,0 +1,218 @@
+package Searching_and_sorting;
+
+// Order statistics without a full sort. select() partitions with Quick_sort.partition and only
+// follows the side that holds k; if that keeps going badly it switches to median-of-medians
+// pivots, so the worst case is O(n) instead of O(n^2).
+public class Quick_select {
+
+    // k-th smallest value, k counted from 0; reorders arr
+    public static int select(int[] arr, int k) {
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+        return select(arr, 0, arr.length - 1, k);
+    }
+
+    // k-th smallest within arr[start..end], k is an index into arr (start <= k <= end)
+    public static int select(int[] arr, int start, int end, int k) {
+        if (start < 0 || end >= arr.length || start > end) {
+            throw new IllegalArgumentException("Invalid range: " + start + ".." + end + " for length " + arr.length);
+        }
+        if (k < start || k > end) {
+            throw new IllegalArgumentException("k out of range: " + k + " not in " + start + ".." + end);
+        }
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(end - start + 1));
+        while (start < end) {
+            if (depthLimit-- == 0) {
+                return medianOfMediansSelect(arr, start, end, k);
+            }
+            // Quick_sort.partition pivots on arr[end], so move a median-of-three there first
+            int mid = start + (end - start) / 2;
+            swap(arr, Intro_sort.medianOf3(arr, start, mid, end), end);
+            int p = Quick_sort.partition(arr, start, end);
+            if (k == p) {
+                return arr[p];
+            } else if (k < p) {
+                end = p - 1;
+            } else {
+                start = p + 1;
+            }
+        }
+        return arr[k];
+    }
+
+    // k-th largest, k counted from 1 like "2nd largest"; arr is left unchanged
+    public static int kthLargest(int[] arr, int k) {
+        if (k < 1 || k > arr.length) {
+            throw new IllegalArgumentException("k must be between 1 and " + arr.length + ": " + k);
+        }
+        return select(arr.clone(), arr.length - k);
+    }
+
+    // The k largest values in descending order; arr is left unchanged
+    public static int[] topK(int[] arr, int k) {
+        if (k <= 0 || arr.length == 0) {
+            return new int[0];
+        }
+        k = Math.min(k, arr.length);
+        int[] copy = arr.clone();
+        int n = copy.length;
+        select(copy, n - k);
+        // Everything from n-k on is now >= the k-th largest, only that slice needs sorting
+        int[] top = java.util.Arrays.copyOfRange(copy, n - k, n);
+        java.util.Arrays.sort(top);
+        Adaptive_sort.reverse(top, 0, k - 1);
+        return top;
+    }
+
+    // Guaranteed O(n) selection: pivot is the median of the medians of groups of five,
+    // partitioned three ways so runs of equal keys cannot stall it
+    static int medianOfMediansSelect(int[] arr, int start, int end, int k) {
+        while (true) {
+            if (end - start < 5) {
+                Intro_sort.insertionSort(arr, start, end);
+                return arr[k];
+            }
+            // Gather the group medians at the front of the range
+            int m = start;
+            for (int g = start; g <= end; g += 5) {
+                int gEnd = Math.min(g + 4, end);
+                Intro_sort.insertionSort(arr, g, gEnd);
+                swap(arr, m++, g + (gEnd - g) / 2);
+            }
+            int pivot = medianOfMediansSelect(arr, start, m - 1, start + (m - 1 - start) / 2);
+
+            int lt = start, i = start, gt = end;
+            while (i <= gt) {
+                if (arr[i] < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (arr[i] > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                end = lt - 1;
+            } else if (k > gt) {
+                start = gt + 1;
+            } else {
+                return pivot;
+            }
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // Top-k over a stream that never has to fit in memory: a size-k min-heap whose
+    // root is the smallest value still in the running, so most values are rejected in O(1)
+    public static class Top_k_stream {
+        final int[] heap;
+        int size;
+
+        public Top_k_stream(int k) {
+            if (k <= 0) {
+                throw new IllegalArgumentException("k must be positive");
+            }
+            heap = new int[k];
+        }
+
+        public void add(int value) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUp(size++);
+            } else if (value > heap[0]) {
+                heap[0] = value;
+                siftDown(0);
+            }
+        }
+
+        public void addAll(int[] values) {
+            for (int v : values) {
+                add(v);
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Smallest of the current top k, i.e. the running k-th largest
+        public int threshold() {
+            if (size == 0) {
+                throw new IllegalStateException("no values added");
+            }
+            return heap[0];
+        }
+
+        // Current top k in descending order
+        public int[] result() {
+            int[] out = java.util.Arrays.copyOf(heap, size);
+            java.util.Arrays.sort(out);
+            Adaptive_sort.reverse(out, 0, size - 1);
+            return out;
+        }
+
+        private void siftUp(int i) {
+            int val = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (heap[parent] <= val) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = val;
+        }
+
+        private void siftDown(int i) {
+            int val = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= val) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = val;
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, 27, 43, 3, 9, 82, 10};
+        System.out.println("Largest: " + kthLargest(arr, 1));
+        System.out.println("2nd largest: " + kthLargest(arr, 2));
+        System.out.println("Median: " + select(arr.clone(), arr.length / 2));
+        System.out.println("Top 3: " + java.util.Arrays.toString(topK(arr, 3)));
+
+        Top_k_stream stream = new Top_k_stream(3);
+        for (int num : arr) {
+            stream.add(num);
+        }
+        System.out.println("Top 3 from stream: " + java.util.Arrays.toString(stream.result()));
+
+        // p99 of a large array, sorted input would make plain quickselect quadratic
+        int n = 10_000_000;
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        long t0 = System.nanoTime();
+        int p99 = select(values, (int) (n * 0.99));
+        long t1 = System.nanoTime();
+        System.out.println("p99 of " + n + " values: " + p99 + " in " + (t1 - t0) / 1_000_000 + " ms");
+    }
+}
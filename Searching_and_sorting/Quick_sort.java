@@ -3,31 +3,57 @@ package Searching_and_sorting;
 public class Quick_sort {
 
     public static void quickSort(int[] arr, int start, int end) {
+        quickSort(arr, start, end, Sort_metrics.NONE);
+    }
+
+    public static int partition(int[] arr, int start, int end) {
+        return partition(arr, start, end, Sort_metrics.NONE);
+    }
+
+    // Reports recursion depth and every partition to m
+    public static void quickSort(int[] arr, int start, int end, Sort_metrics.Listener m) {
+        quickSort(arr, start, end, m, 1);
+    }
+
+    private static void quickSort(int[] arr, int start, int end, Sort_metrics.Listener m, int depth) {
+        m.onDepth(depth);
         if (start < end) {
-            int pivotIndex = partition(arr, start, end);
-            quickSort(arr, start, pivotIndex - 1); // Sort left half
-            quickSort(arr, pivotIndex + 1, end);   // Sort right half
+            int pivotIndex = partition(arr, start, end, m);
+            quickSort(arr, start, pivotIndex - 1, m, depth + 1); // Sort left half
+            quickSort(arr, pivotIndex + 1, end, m, depth + 1);   // Sort right half
         }
     }
 
-    public static int partition(int[] arr, int start, int end) {
+    // Reports comparisons, swaps and partition time
+    public static int partition(int[] arr, int start, int end, Sort_metrics.Listener m) {
+        boolean timed = m.enabled();
+        long t0 = timed ? System.nanoTime() : 0;
+        long compares = 0, swaps = 0;
         int pivot = arr[end]; // Choosing the last element as pivot
         int i = start - 1; // Pointer for the smaller element
 
         for (int j = start; j < end; j++) {
+            compares++;
             if (arr[j] <= pivot) {
                 i++;
                 // Swap arr[i] and arr[j]
                 int temp = arr[i];
                 arr[i] = arr[j];
                 arr[j] = temp;
+                swaps++;
             }
         }
         // Swap arr[i + 1] and arr[end] (or pivot)
         int temp = arr[i + 1];
         arr[i + 1] = arr[end];
         arr[end] = temp;
+        swaps++;
 
+        m.onCompare(compares);
+        m.onSwap(swaps);
+        if (timed) {
+            m.onPhase(Sort_metrics.Phase.PARTITION, System.nanoTime() - t0);
+        }
         return i + 1; // Return the partition index
     }
 
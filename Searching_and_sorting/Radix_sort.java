@@ -0,0 +1,307 @@
+package Searching_and_sorting;
+
+import java.util.stream.IntStream;
+
+public class Radix_sort {
+
+    static final int BITS = 8;                 // Digit width, 4 passes for int and 8 for long
+    static final int RADIX = 1 << BITS;
+    static final int MASK = RADIX - 1;
+    static final int INSERTION_CUTOFF = 64;    // Tiny arrays are not worth the histogram setup
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    public static void radixSort(int[] arr) {
+        int n = arr.length;
+        if (n < INSERTION_CUTOFF) {
+            Insertion_sort.insertionSort(arr);
+            return;
+        }
+        int chunks = n < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+        radixSort(arr, new int[n], chunks);
+    }
+
+    // aux must be at least as long as arr; chunks is the number of threads that share each pass
+    public static void radixSort(int[] arr, int[] aux, int chunks) {
+        radixSort(arr, arr.length, aux, chunks);
+    }
+
+    // Sorts only arr[0..n), so a caller with a reusable array can sort a shorter fill without copying it
+    public static void radixSort(int[] arr, int n, int[] aux, int chunks) {
+        if (n > arr.length || aux.length < n) {
+            throw new IllegalArgumentException("n is larger than arr or aux");
+        }
+        int passes = Integer.SIZE / BITS;
+        // Per-chunk counts of every digit position, taken in one parallel read of the input
+        int[][][] local = chunkHistograms(arr, n, passes, Math.max(1, chunks));
+        int[][] counts = sumHistograms(local, passes);
+        boolean unread = true; // local still describes src, which holds the input order
+
+        int[] src = arr, dst = aux;
+        for (int pass = 0; pass < passes; pass++) {
+            if (isConstant(counts[pass], n)) {
+                continue; // Every key has the same digit here, the pass would not move anything
+            }
+            int shift = pass * BITS;
+            if (chunks <= 1) {
+                scatter(src, dst, 0, n, shift, prefixSums(counts[pass]));
+            } else {
+                parallelScatter(src, dst, n, shift, chunks, unread ? chunkCounts(local, pass) : null);
+            }
+            unread = false;
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    public static void radixSort(long[] arr) {
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        int chunks = n < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+        radixSort(arr, new long[n], chunks);
+    }
+
+    public static void radixSort(long[] arr, long[] aux, int chunks) {
+        radixSort(arr, arr.length, aux, chunks);
+    }
+
+    public static void radixSort(long[] arr, int n, long[] aux, int chunks) {
+        if (n > arr.length || aux.length < n) {
+            throw new IllegalArgumentException("n is larger than arr or aux");
+        }
+        int passes = Long.SIZE / BITS;
+        // Per-chunk counts of every digit position, taken in one parallel read of the input
+        int[][][] local = chunkHistograms(arr, n, passes, Math.max(1, chunks));
+        int[][] counts = sumHistograms(local, passes);
+        boolean unread = true; // local still describes src, which holds the input order
+
+        long[] src = arr, dst = aux;
+        for (int pass = 0; pass < passes; pass++) {
+            if (isConstant(counts[pass], n)) {
+                continue;
+            }
+            int shift = pass * BITS;
+            if (chunks <= 1) {
+                scatter(src, dst, 0, n, shift, prefixSums(counts[pass]));
+            } else {
+                parallelScatter(src, dst, n, shift, chunks, unread ? chunkCounts(local, pass) : null);
+            }
+            unread = false;
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // Flipping the sign bit makes signed keys order correctly as unsigned digits
+    static int digit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & MASK;
+    }
+
+    static int digit(long value, int shift) {
+        return (int) ((value ^ Long.MIN_VALUE) >>> shift) & MASK;
+    }
+
+    // Counts every digit position in a single read of the array; with several chunks each one
+    // is counted on its own thread into its own histograms
+    static int[][][] chunkHistograms(int[] arr, int n, int passes, int chunks) {
+        int[][][] local = new int[chunks][passes][RADIX];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[][] counts = local[c];
+            for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                int value = arr[i];
+                for (int pass = 0; pass < passes; pass++) {
+                    counts[pass][digit(value, pass * BITS)]++;
+                }
+            }
+        });
+        return local;
+    }
+
+    static int[][][] chunkHistograms(long[] arr, int n, int passes, int chunks) {
+        int[][][] local = new int[chunks][passes][RADIX];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[][] counts = local[c];
+            for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                long value = arr[i];
+                for (int pass = 0; pass < passes; pass++) {
+                    counts[pass][digit(value, pass * BITS)]++;
+                }
+            }
+        });
+        return local;
+    }
+
+    // Whole-array counts per digit position, used to skip passes where every key has the same digit
+    static int[][] sumHistograms(int[][][] local, int passes) {
+        if (local.length == 1) {
+            return local[0];
+        }
+        int[][] counts = new int[passes][RADIX];
+        for (int[][] chunk : local) {
+            for (int pass = 0; pass < passes; pass++) {
+                for (int b = 0; b < RADIX; b++) {
+                    counts[pass][b] += chunk[pass][b];
+                }
+            }
+        }
+        return counts;
+    }
+
+    // Every chunk's counts for one digit position
+    static int[][] chunkCounts(int[][][] local, int pass) {
+        int[][] counts = new int[local.length][];
+        for (int c = 0; c < local.length; c++) {
+            counts[c] = local[c][pass];
+        }
+        return counts;
+    }
+
+    static boolean isConstant(int[] count, int n) {
+        for (int c : count) {
+            if (c == n) {
+                return true;
+            }
+            if (c != 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Turns bucket counts into the first output index of each bucket
+    static int[] prefixSums(int[] count) {
+        int[] offsets = new int[RADIX];
+        int sum = 0;
+        for (int b = 0; b < RADIX; b++) {
+            offsets[b] = sum;
+            sum += count[b];
+        }
+        return offsets;
+    }
+
+    static void scatter(int[] src, int[] dst, int from, int to, int shift, int[] offsets) {
+        for (int i = from; i < to; i++) {
+            int value = src[i];
+            dst[offsets[digit(value, shift)]++] = value;
+        }
+    }
+
+    static void scatter(long[] src, long[] dst, int from, int to, int shift, int[] offsets) {
+        for (int i = from; i < to; i++) {
+            long value = src[i];
+            dst[offsets[digit(value, shift)]++] = value;
+        }
+    }
+
+    // Each chunk counts its own digits, then the per-chunk counts are laid out bucket by bucket
+    // so every chunk owns a disjoint slice of each output bucket and can scatter without locking
+    // If counted is not null it already holds each chunk's counts for this digit and is reused
+    static void parallelScatter(int[] src, int[] dst, int n, int shift, int chunks, int[][] counted) {
+        int[][] local;
+        if (counted != null) {
+            local = counted;
+        } else {
+            int[][] fresh = new int[chunks][RADIX];
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] count = fresh[c];
+                for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                    count[digit(src[i], shift)]++;
+                }
+            });
+            local = fresh;
+        }
+        mergeHistograms(local);
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                scatter(src, dst, chunkStart(n, chunks, c), chunkStart(n, chunks, c + 1), shift, local[c]));
+    }
+
+    // If counted is not null it already holds each chunk's counts for this digit and is reused
+    static void parallelScatter(long[] src, long[] dst, int n, int shift, int chunks, int[][] counted) {
+        int[][] local;
+        if (counted != null) {
+            local = counted;
+        } else {
+            int[][] fresh = new int[chunks][RADIX];
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] count = fresh[c];
+                for (int i = chunkStart(n, chunks, c), end = chunkStart(n, chunks, c + 1); i < end; i++) {
+                    count[digit(src[i], shift)]++;
+                }
+            });
+            local = fresh;
+        }
+        mergeHistograms(local);
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                scatter(src, dst, chunkStart(n, chunks, c), chunkStart(n, chunks, c + 1), shift, local[c]));
+    }
+
+    // Replaces each chunk's counts with that chunk's starting offset inside every bucket
+    static void mergeHistograms(int[][] local) {
+        int sum = 0;
+        for (int b = 0; b < RADIX; b++) {
+            for (int[] count : local) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+        }
+    }
+
+    static int chunkStart(int n, int chunks, int c) {
+        return (int) ((long) n * c / chunks);
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, -27, 43, 3, -9, 82, 10};
+        System.out.println("Original array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        radixSort(arr);
+
+        System.out.println("Sorted array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        int n = 10_000_000;
+        java.util.Random rnd = new java.util.Random(7);
+        int[] ints = new int[n];
+        long[] longs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = rnd.nextInt();
+            longs[i] = rnd.nextLong();
+        }
+        int[] expectedInts = ints.clone();
+        long[] expectedLongs = longs.clone();
+
+        long t0 = System.nanoTime();
+        java.util.Arrays.sort(expectedInts);
+        long t1 = System.nanoTime();
+        radixSort(ints);
+        long t2 = System.nanoTime();
+        System.out.println("int[]  Arrays.sort: " + (t1 - t0) / 1_000_000 + " ms, radixSort: "
+                + (t2 - t1) / 1_000_000 + " ms, correct: " + java.util.Arrays.equals(ints, expectedInts));
+
+        t0 = System.nanoTime();
+        java.util.Arrays.sort(expectedLongs);
+        t1 = System.nanoTime();
+        radixSort(longs);
+        t2 = System.nanoTime();
+        System.out.println("long[] Arrays.sort: " + (t1 - t0) / 1_000_000 + " ms, radixSort: "
+                + (t2 - t1) / 1_000_000 + " ms, correct: " + java.util.Arrays.equals(longs, expectedLongs));
+    }
+}
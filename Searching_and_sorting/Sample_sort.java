@@ -0,0 +1,213 @@
+package Searching_and_sorting;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Parallel sample sort. Instead of one serial top-level partition like Quick_sort, it picks
+// bucket boundaries (splitters) from a random sample, lets every thread classify its own
+// slice of the input, scatters all slices into their buckets at once and sorts the buckets
+// independently. Every pass over the data is split across all cores.
+public class Sample_sort {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16; // Below this a single-threaded sort wins
+    static final int OVERSAMPLING = 32;              // Samples drawn per bucket
+    static final int BUCKETS_PER_THREAD = 4;         // More buckets than threads keeps cores busy at the end
+
+    public static void sampleSort(int[] arr) {
+        sampleSort(arr, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void sampleSort(int[] arr, int threads) {
+        int n = arr.length;
+        if (n < SEQUENTIAL_THRESHOLD || threads < 2) {
+            Intro_sort.introSort(arr);
+            return;
+        }
+        int buckets = Math.min(threads * BUCKETS_PER_THREAD, n / OVERSAMPLING);
+        int[] splitters = chooseSplitters(arr, buckets);
+        buckets = splitters.length + 1;
+
+        // Per-slice bucket counts, then turned into each slice's write offset inside each bucket
+        int[][] offsets = new int[threads][buckets];
+        IntStream.range(0, threads).parallel().forEach(t -> {
+            int[] count = offsets[t];
+            for (int i = sliceStart(n, threads, t), end = sliceStart(n, threads, t + 1); i < end; i++) {
+                count[bucketOf(arr[i], splitters)]++;
+            }
+        });
+        int[] bucketStart = new int[buckets + 1];
+        int sum = 0;
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b] = sum;
+            for (int t = 0; t < threads; t++) {
+                int c = offsets[t][b];
+                offsets[t][b] = sum;
+                sum += c;
+            }
+        }
+        bucketStart[buckets] = n;
+
+        int[] aux = new int[n];
+        IntStream.range(0, threads).parallel().forEach(t -> {
+            int[] next = offsets[t];
+            for (int i = sliceStart(n, threads, t), end = sliceStart(n, threads, t + 1); i < end; i++) {
+                int value = arr[i];
+                aux[next[bucketOf(value, splitters)]++] = value;
+            }
+        });
+
+        // Buckets are disjoint ranges in key order, so sort each and copy it straight back
+        IntStream.range(0, buckets).parallel().forEach(b -> {
+            int from = bucketStart[b], to = bucketStart[b + 1];
+            if (to - from > 1) {
+                Intro_sort.introSort(aux, from, to - 1);
+            }
+            System.arraycopy(aux, from, arr, from, to - from);
+        });
+    }
+
+    public static void sampleSort(long[] arr) {
+        sampleSort(arr, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void sampleSort(long[] arr, int threads) {
+        int n = arr.length;
+        if (n < SEQUENTIAL_THRESHOLD || threads < 2) {
+            Arrays.sort(arr);
+            return;
+        }
+        int buckets = Math.min(threads * BUCKETS_PER_THREAD, n / OVERSAMPLING);
+        long[] splitters = chooseSplitters(arr, buckets);
+        buckets = splitters.length + 1;
+
+        int[][] offsets = new int[threads][buckets];
+        IntStream.range(0, threads).parallel().forEach(t -> {
+            int[] count = offsets[t];
+            for (int i = sliceStart(n, threads, t), end = sliceStart(n, threads, t + 1); i < end; i++) {
+                count[bucketOf(arr[i], splitters)]++;
+            }
+        });
+        int[] bucketStart = new int[buckets + 1];
+        int sum = 0;
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b] = sum;
+            for (int t = 0; t < threads; t++) {
+                int c = offsets[t][b];
+                offsets[t][b] = sum;
+                sum += c;
+            }
+        }
+        bucketStart[buckets] = n;
+
+        long[] aux = new long[n];
+        IntStream.range(0, threads).parallel().forEach(t -> {
+            int[] next = offsets[t];
+            for (int i = sliceStart(n, threads, t), end = sliceStart(n, threads, t + 1); i < end; i++) {
+                long value = arr[i];
+                aux[next[bucketOf(value, splitters)]++] = value;
+            }
+        });
+
+        IntStream.range(0, buckets).parallel().forEach(b -> {
+            int from = bucketStart[b], to = bucketStart[b + 1];
+            Arrays.sort(aux, from, to);
+            System.arraycopy(aux, from, arr, from, to - from);
+        });
+    }
+
+    // Sorts buckets * OVERSAMPLING random picks and keeps every OVERSAMPLING-th one.
+    // Repeated splitters are dropped, so a heavy key ends up in one bucket instead of many empty ones.
+    static int[] chooseSplitters(int[] arr, int buckets) {
+        Random rnd = new Random(arr.length);
+        int[] sample = new int[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = arr[rnd.nextInt(arr.length)];
+        }
+        Intro_sort.introSort(sample);
+        int[] splitters = new int[buckets - 1];
+        int count = 0;
+        for (int b = 1; b < buckets; b++) {
+            int s = sample[b * OVERSAMPLING];
+            if (count == 0 || splitters[count - 1] != s) {
+                splitters[count++] = s;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    static long[] chooseSplitters(long[] arr, int buckets) {
+        Random rnd = new Random(arr.length);
+        long[] sample = new long[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = arr[rnd.nextInt(arr.length)];
+        }
+        Arrays.sort(sample);
+        long[] splitters = new long[buckets - 1];
+        int count = 0;
+        for (int b = 1; b < buckets; b++) {
+            long s = sample[b * OVERSAMPLING];
+            if (count == 0 || splitters[count - 1] != s) {
+                splitters[count++] = s;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    // Number of splitters <= value, i.e. the bucket the value belongs to
+    static int bucketOf(int value, int[] splitters) {
+        int lo = 0, hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (splitters[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    static int bucketOf(long value, long[] splitters) {
+        int lo = 0, hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (splitters[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    static int sliceStart(int n, int slices, int s) {
+        return (int) ((long) n * s / slices);
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int arr[] = {38, 27, 43, 3, 9, 82, 10};
+        sampleSort(arr);
+        System.out.println("Sorted array:");
+        for (int num : arr) {
+            System.out.print(num + " ");
+        }
+        System.out.println();
+
+        int n = 20_000_000;
+        Random rnd = new Random(9);
+        int[] ints = new int[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = rnd.nextInt();
+        }
+        int[] expected = ints.clone();
+        long t0 = System.nanoTime();
+        Arrays.parallelSort(expected);
+        long t1 = System.nanoTime();
+        sampleSort(ints);
+        long t2 = System.nanoTime();
+        System.out.println("Arrays.parallelSort: " + (t1 - t0) / 1_000_000 + " ms, sampleSort: "
+                + (t2 - t1) / 1_000_000 + " ms, correct: " + Arrays.equals(ints, expected));
+    }
+}
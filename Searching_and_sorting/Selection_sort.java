@@ -3,10 +3,19 @@ package Searching_and_sorting;
 public class Selection_sort {
     
     public static void selectionSort(int[] arr) {
+        selectionSort(arr, Sort_metrics.NONE);
+    }
+
+    // Reports comparisons, swaps and total time to m
+    public static void selectionSort(int[] arr, Sort_metrics.Listener m) {
+        boolean timed = m.enabled();
+        long t0 = timed ? System.nanoTime() : 0;
+        long compares = 0;
         int n = arr.length;
         for (int i = 0; i < n - 1; i++) {
             int minIndex = i;
             for (int j = i + 1; j < n; j++) {
+                compares++;
                 if (arr[j] < arr[minIndex]) {
                     minIndex = j;
                 }
@@ -16,7 +25,13 @@ public class Selection_sort {
             arr[minIndex] = arr[i];
             arr[i] = temp;
         }
+        m.onCompare(compares);
+        m.onSwap(Math.max(0, n - 1));
+        if (timed) {
+            m.onPhase(Sort_metrics.Phase.SORT, System.nanoTime() - t0);
+        }
     }
+
     public static void main(String[] args) {
         int[] arr = {64, 25, 12, 22, 11};
         System.out.println("Original array:");
@@ -0,0 +1,51 @@
+package Searching_and_sorting.Simd;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import Searching_and_sorting.Vector_search;
+
+// Vector API kernels behind Vector_search. Compile and run with --add-modules jdk.incubator.vector.
+public class Simd_search implements Vector_search.Kernel {
+
+    static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(int[] arr, int key) {
+        int i = 0;
+        int bound = SPECIES.loopBound(arr.length);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> eq = IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, key);
+            if (eq.anyTrue()) {
+                return i + eq.firstTrue();
+            }
+        }
+        for (; i < arr.length; i++) {
+            if (arr[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] arr, int key) {
+        int c = 0;
+        int i = 0;
+        int bound = SPECIES.loopBound(arr.length);
+        for (; i < bound; i += SPECIES.length()) {
+            c += IntVector.fromArray(SPECIES, arr, i).compare(VectorOperators.EQ, key).trueCount();
+        }
+        for (; i < arr.length; i++) {
+            c += arr[i] == key ? 1 : 0;
+        }
+        return c;
+    }
+
+    @Override
+    public String name() {
+        return "vector x" + SPECIES.length();
+    }
+}
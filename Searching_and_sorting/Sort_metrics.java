@@ -0,0 +1,213 @@
+package Searching_and_sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Optional counters for the sorts. Each instrumented sort takes a Listener and reports
+// counts it kept in local variables once per call or phase, so with NONE every report is
+// an empty call the JIT inlines away together with the counting. The plain overloads
+// (bubbleSort(arr), Quick_sort.partition(...) and so on) pass NONE, so there is one copy of each algorithm.
+public class Sort_metrics {
+
+    public enum Phase {
+        SORT,       // Whole run of a sort that has no separate phases (Bubble, Selection, Insertion)
+        PARTITION,  // Quick_sort.partition
+        MERGE,      // Merging two halves into temp[]
+        COPY_BACK   // Copying temp[] back into the array
+    }
+
+    public interface Listener {
+        // When false the sorts skip System.nanoTime() as well
+        default boolean enabled() {
+            return true;
+        }
+
+        default void onCompare(long count) {
+        }
+
+        default void onSwap(long count) {
+        }
+
+        default void onMove(long count) {
+        }
+
+        default void onDepth(int depth) {
+        }
+
+        default void onAllocate(long bytes) {
+        }
+
+        default void onPhase(Phase phase, long nanos) {
+        }
+    }
+
+    public static final Listener NONE = new Listener() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+    };
+
+    // Heap footprint of a new int[length] with compressed class pointers
+    public static long intArrayBytes(int length) {
+        return 16 + 4L * length;
+    }
+
+    // Accumulates everything reported to it; not thread-safe, use one per sorting thread
+    public static class Counter implements Listener {
+        public long comparisons;
+        public long swaps;
+        public long moves;
+        public int maxDepth;
+        public long bytesAllocated;
+        public final long[] phaseNanos = new long[Phase.values().length];
+
+        @Override
+        public void onCompare(long count) {
+            comparisons += count;
+        }
+
+        @Override
+        public void onSwap(long count) {
+            swaps += count;
+        }
+
+        @Override
+        public void onMove(long count) {
+            moves += count;
+        }
+
+        @Override
+        public void onDepth(int depth) {
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+        }
+
+        @Override
+        public void onAllocate(long bytes) {
+            bytesAllocated += bytes;
+        }
+
+        @Override
+        public void onPhase(Phase phase, long nanos) {
+            phaseNanos[phase.ordinal()] += nanos;
+        }
+
+        public void reset() {
+            comparisons = swaps = moves = bytesAllocated = 0;
+            maxDepth = 0;
+            java.util.Arrays.fill(phaseNanos, 0);
+        }
+
+        // Emits the counters as one JFR event if a recording has dsa.Sort enabled
+        public void commit(String algorithm, int length) {
+            Sort_event event = new Sort_event();
+            if (!event.isEnabled()) {
+                return;
+            }
+            event.algorithm = algorithm;
+            event.length = length;
+            event.comparisons = comparisons;
+            event.swaps = swaps;
+            event.moves = moves;
+            event.maxDepth = maxDepth;
+            event.bytesAllocated = bytesAllocated;
+            event.sortNanos = phaseNanos[Phase.SORT.ordinal()];
+            event.partitionNanos = phaseNanos[Phase.PARTITION.ordinal()];
+            event.mergeNanos = phaseNanos[Phase.MERGE.ordinal()];
+            event.copyBackNanos = phaseNanos[Phase.COPY_BACK.ordinal()];
+            event.commit();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("comparisons=").append(comparisons)
+              .append(" swaps=").append(swaps)
+              .append(" moves=").append(moves)
+              .append(" maxDepth=").append(maxDepth)
+              .append(" bytesAllocated=").append(bytesAllocated);
+            for (Phase p : Phase.values()) {
+                if (phaseNanos[p.ordinal()] != 0) {
+                    sb.append(' ').append(p).append("=").append(phaseNanos[p.ordinal()] / 1000).append("us");
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    @Name("dsa.Sort")
+    @Label("Sort")
+    @Category("DSA_Java")
+    @Description("Counters from one instrumented sort call")
+    static class Sort_event extends Event {
+        @Label("Algorithm")
+        String algorithm;
+        @Label("Length")
+        int length;
+        @Label("Comparisons")
+        long comparisons;
+        @Label("Swaps")
+        long swaps;
+        @Label("Moves")
+        long moves;
+        @Label("Max Recursion Depth")
+        int maxDepth;
+        @Label("Bytes Allocated")
+        @DataAmount
+        long bytesAllocated;
+        @Label("Sort Time")
+        @Timespan
+        long sortNanos;
+        @Label("Partition Time")
+        @Timespan
+        long partitionNanos;
+        @Label("Merge Time")
+        @Timespan
+        long mergeNanos;
+        @Label("Copy Back Time")
+        @Timespan
+        long copyBackNanos;
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int n = 10_000;
+        int[] input = new int[n];
+        java.util.Random rnd = new java.util.Random(1);
+        for (int i = 0; i < n; i++) {
+            input[i] = rnd.nextInt(n);
+        }
+        Counter c = new Counter();
+
+        Bubble_sort.bubbleSort(input.clone(), c);
+        System.out.println("Bubble_sort:    " + c);
+        c.commit("Bubble_sort", n);
+        c.reset();
+
+        Selection_sort.selectionSort(input.clone(), c);
+        System.out.println("Selection_sort: " + c);
+        c.commit("Selection_sort", n);
+        c.reset();
+
+        Insertion_sort.insertionSort(input.clone(), c);
+        System.out.println("Insertion_sort: " + c);
+        c.commit("Insertion_sort", n);
+        c.reset();
+
+        Merge_sort.mergeSort(input.clone(), 0, n - 1, c);
+        System.out.println("Merge_sort:     " + c);
+        c.commit("Merge_sort", n);
+        c.reset();
+
+        Quick_sort.quickSort(input.clone(), 0, n - 1, c);
+        System.out.println("Quick_sort:     " + c);
+        c.commit("Quick_sort", n);
+    }
+}
@@ -0,0 +1,90 @@
+package Searching_and_sorting;
+
+// Linear scans (first index of a key, number of occurrences) for unsorted int[].
+// When the JVM runs with --add-modules jdk.incubator.vector, the scans use Simd.Simd_search,
+// which compares a whole SIMD register of lanes (8 ints on AVX2, 16 on AVX-512) per step.
+// Otherwise they fall back to an unrolled scalar loop. Only the Simd folder needs the module
+// to compile, so this class builds and runs on any JDK 17+.
+public class Vector_search {
+
+    public interface Kernel {
+        int indexOf(int[] arr, int key);   // First index of key, or -1
+
+        int count(int[] arr, int key);     // Number of elements equal to key
+
+        String name();
+    }
+
+    // static final so the JIT treats the choice as a constant and inlines the kernel
+    static final Kernel KERNEL = loadKernel();
+
+    public static int indexOf(int[] arr, int key) {
+        return KERNEL.indexOf(arr, key);
+    }
+
+    public static int count(int[] arr, int key) {
+        return KERNEL.count(arr, key);
+    }
+
+    public static String kernelName() {
+        return KERNEL.name();
+    }
+
+    static Kernel loadKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (Kernel) Class.forName("Searching_and_sorting.Simd.Simd_search")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Simd folder not compiled in, use the scalar loop
+            }
+        }
+        return new Scalar();
+    }
+
+    // Checks eight elements per iteration and only looks at which one matched after any did,
+    // which keeps the loop branch-light without the Vector API
+    public static class Scalar implements Kernel {
+        @Override
+        public int indexOf(int[] arr, int key) {
+            int n = arr.length;
+            int i = 0;
+            for (; i + 8 <= n; i += 8) {
+                boolean hit = (arr[i] == key) | (arr[i + 1] == key) | (arr[i + 2] == key) | (arr[i + 3] == key)
+                        | (arr[i + 4] == key) | (arr[i + 5] == key) | (arr[i + 6] == key) | (arr[i + 7] == key);
+                if (hit) {
+                    break;
+                }
+            }
+            for (; i < n; i++) {
+                if (arr[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int count(int[] arr, int key) {
+            int c = 0;
+            for (int value : arr) {
+                c += value == key ? 1 : 0;
+            }
+            return c;
+        }
+
+        @Override
+        public String name() {
+            return "scalar";
+        }
+    }
+
+    // Example usage
+    public static void main(String[] args) {
+        int num[] = {1, 2, 3, 4, 5, 6, 7, 8, 9, 3, 11, 12, 13, 14, 15, 16, 17, 3};
+        System.out.println("Kernel: " + kernelName());
+        System.out.println("First 3 at index: " + indexOf(num, 3));
+        System.out.println("Number of 3s: " + count(num, 3));
+        System.out.println("Index of 99: " + indexOf(num, 99));
+    }
+}